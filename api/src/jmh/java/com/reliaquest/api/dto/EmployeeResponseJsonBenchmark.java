@@ -0,0 +1,117 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the streaming {@link EmployeeResponseJson} codecs with Jackson's reflective bean (de)serializers on a list
+ * response, and the JSON and Smile wire formats with each other. Run with the {@code gc} profiler to see bytes
+ * allocated per operation; the decoding benchmarks also report the size of the payload they read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeResponseJsonBenchmark {
+
+    @Param({"50", "1000", "100000"})
+    int employees;
+
+    @Param({"json", "smile"})
+    String format;
+
+    ObjectMapper streaming;
+    ObjectMapper databind;
+    EmployeeListResponseWrapper response;
+    byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        streaming = mapper();
+        databind = mapper().addMixIn(EmployeeResponseDTO.class, BeanCodecs.class);
+        final List<EmployeeResponseDTO> data = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            data.add(new EmployeeResponseDTO(
+                    UUID.randomUUID().toString(),
+                    "Employee " + i,
+                    50_000 + i,
+                    20 + i % 45,
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        response = new EmployeeListResponseWrapper();
+        response.setStatus("Successfully processed request.");
+        response.setData(data);
+        encoded = streaming.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeStreaming() throws IOException {
+        return streaming.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeDatabind() throws IOException {
+        return databind.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public EmployeeListResponseWrapper deserializeStreaming(Payload payload) throws IOException {
+        return streaming.readValue(encoded, EmployeeListResponseWrapper.class);
+    }
+
+    @Benchmark
+    public EmployeeListResponseWrapper deserializeDatabind(Payload payload) throws IOException {
+        return databind.readValue(encoded, EmployeeListResponseWrapper.class);
+    }
+
+    private ObjectMapper mapper() {
+        return format.equals("smile") ? new ObjectMapper(new SmileFactory()) : new ObjectMapper();
+    }
+
+    /**
+     * Reports the encoded size of the response in {@code format} next to the decoding scores.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void setup(EmployeeResponseJsonBenchmark benchmark) {
+            encodedBytes = benchmark.encoded.length;
+        }
+    }
+
+    /**
+     * Mixed into {@link EmployeeResponseDTO} to override its codec annotations with Jackson's defaults.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    abstract static class BeanCodecs {}
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.DatasetProperties;
+import com.reliaquest.api.config.RangeQueryProperties;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a page of a salary range query served by {@link EmployeeRangeIndex} with filtering and sorting the whole
+ * employee list for the same page. {@code selectivity} is the share of the salary span the range covers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRangeIndexBenchmark {
+
+    private static final int MIN_SALARY = 30_000;
+    private static final int MAX_SALARY = 500_000;
+    private static final int PAGE_SIZE = 50;
+    private static final Comparator<EmployeeResponseDTO> BY_SALARY_THEN_ID =
+            Comparator.comparing(EmployeeResponseDTO::getEmployee_salary).thenComparing(EmployeeResponseDTO::getId);
+
+    @Param({"100000"})
+    int employees;
+
+    @Param({"0.001", "0.1", "1.0"})
+    double selectivity;
+
+    List<EmployeeResponseDTO> list;
+    EmployeeRangeIndex index;
+    int min;
+    int max;
+
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(42);
+        list = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            list.add(new EmployeeResponseDTO(
+                    UUID.randomUUID().toString(),
+                    "Employee " + i,
+                    random.nextInt(MIN_SALARY, MAX_SALARY + 1),
+                    random.nextInt(18, 70),
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        final EmployeeDataset.Snapshot snapshot = new EmployeeDataset.Snapshot(1, List.copyOf(list), System.nanoTime());
+        final EmployeeDataset dataset = new EmployeeDataset(null, new DatasetProperties(Duration.ofDays(1))) {
+            @Override
+            public Snapshot current() {
+                return snapshot;
+            }
+        };
+        index = new EmployeeRangeIndex(dataset, new RangeQueryProperties(PAGE_SIZE, PAGE_SIZE));
+        index.onSnapshot(snapshot.employees());
+        final int width = (int) ((MAX_SALARY - MIN_SALARY) * selectivity);
+        min = MIN_SALARY + (MAX_SALARY - MIN_SALARY - width) / 2;
+        max = min + width;
+    }
+
+    @Benchmark
+    public EmployeePageDTO rangeIndex() {
+        return index.range(EmployeeRangeIndex.Field.SALARY, min, max, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> filterList() {
+        return list.stream()
+                .filter(employee -> employee.getEmployee_salary() >= min && employee.getEmployee_salary() <= max)
+                .sorted(BY_SALARY_THEN_ID)
+                .limit(PAGE_SIZE)
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for name autocomplete.
+ *
+ * @param defaultLimit completions returned when the request does not ask for a number
+ * @param maxLimit upper bound on completions per request, and on the highest earners cached per trie node
+ */
+@ConfigurationProperties("api.autocomplete")
+public record AutocompleteProperties(@DefaultValue("10") int defaultLimit, @DefaultValue("20") int maxLimit) {}
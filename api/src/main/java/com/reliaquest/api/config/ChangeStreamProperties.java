@@ -0,0 +1,20 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for following the mock servers' employee change streams.
+ *
+ * @param enabled whether to subscribe at startup
+ * @param connectTimeout how long to wait for a stream to open
+ * @param initialBackoff pause before reconnecting after a stream fails, doubled on each further failure
+ * @param maxBackoff upper bound for the reconnect pause
+ */
+@ConfigurationProperties("api.change-stream")
+public record ChangeStreamProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("30s") Duration maxBackoff) {}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the local copy of the employee dataset that indexes are built from.
+ *
+ * @param refreshInterval age after which the dataset is fetched again on the next read
+ */
+@ConfigurationProperties("api.dataset")
+public record DatasetProperties(@DefaultValue("30s") Duration refreshInterval) {}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the deadline each employee request is served under.
+ *
+ * @param enabled whether requests get a deadline; without one, upstream calls are bounded only by their own timeouts
+ * @param header request header a client may state its own timeout in, e.g. {@code 500ms} or {@code 2s}; a bare
+ *     number is read as milliseconds
+ * @param defaultTimeout deadline for endpoints without an entry in {@code endpoints} when the client states none
+ * @param maxTimeout upper bound for a client-stated timeout
+ * @param endpoints deadlines by handler method name, e.g. {@code getEmployeeById}
+ * @param upstreamConnectTimeout time to wait for an upstream connection, shortened to the remaining deadline
+ * @param upstreamReadTimeout time to wait for upstream response data, shortened to the remaining deadline
+ */
+@ConfigurationProperties("api.deadline")
+public record DeadlineProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Request-Timeout") String header,
+        @DefaultValue("10s") Duration defaultTimeout,
+        @DefaultValue("60s") Duration maxTimeout,
+        Map<String, Duration> endpoints,
+        @DefaultValue("2s") Duration upstreamConnectTimeout,
+        @DefaultValue("10s") Duration upstreamReadTimeout) {
+
+    public DeadlineProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    public Duration timeoutFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultTimeout);
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the by-id employee cache.
+ *
+ * @param maxSize approximate upper bound on the memory held by cached employees
+ * @param expireAfterWrite lifetime of a cached employee
+ * @param negativeTtl lifetime of a cached "not found" answer
+ */
+@ConfigurationProperties("api.cache.employee")
+public record EmployeeCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("TINY_LFU") Eviction eviction,
+        @DefaultValue("4MB") DataSize maxSize,
+        @DefaultValue("30s") Duration expireAfterWrite,
+        @DefaultValue("2s") Duration negativeTtl) {
+
+    public enum Eviction {
+        LRU,
+        TINY_LFU
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.jfr.ContinuousRecording;
+import com.reliaquest.api.jfr.FlightRecordingEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * The application's JFR events are emitted whether or not this is enabled, so a recording started with jcmd sees them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.flight-recorder.enabled", matchIfMissing = true)
+public class FlightRecorderConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ContinuousRecording continuousRecording(FlightRecorderProperties properties) {
+        return new ContinuousRecording(properties);
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(ContinuousRecording recording) {
+        return new FlightRecordingEndpoint(recording);
+    }
+}
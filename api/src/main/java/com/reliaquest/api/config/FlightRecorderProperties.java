@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the always-on flight recording.
+ *
+ * @param settings JFR configuration to record with, {@code default} (about 1% overhead) or {@code profile}
+ * @param maxAge how far back the recording reaches
+ * @param maxSize upper bound on the recording kept on disk
+ * @param dumpDirectory where dumps are written; the JVM's temporary directory when unset
+ */
+@ConfigurationProperties("api.flight-recorder")
+public record FlightRecorderProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("default") String settings,
+        @DefaultValue("30m") Duration maxAge,
+        @DefaultValue("64MB") DataSize maxSize,
+        Path dumpDirectory) {}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for hedging idempotent upstream reads.
+ *
+ * @param percentile observed attempt latency percentile after which a hedge is sent
+ * @param minDelay lower bound for the hedge delay
+ * @param initialDelay hedge delay used until enough latencies have been observed
+ * @param budgetRatio hedges allowed per upstream read, e.g. 0.1 allows at most one hedge per ten reads
+ * @param throttleCooldown how long hedging stays off after the upstream answered 429
+ * @param maxThreads upper bound on concurrent upstream attempts run by the hedger
+ */
+@ConfigurationProperties("api.hedging")
+public record HedgingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.95") double percentile,
+        @DefaultValue("50ms") Duration minDelay,
+        @DefaultValue("250ms") Duration initialDelay,
+        @DefaultValue("0.1") double budgetRatio,
+        @DefaultValue("5s") Duration throttleCooldown,
+        @DefaultValue("32") int maxThreads) {}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for caching encoded responses to the API's own clients.
+ *
+ * @param paths GET routes whose responses are cached until the employee dataset changes version
+ * @param cacheControl {@code Cache-Control} sent with cached routes; its {@code max-age} also bounds how long a
+ *     response is kept while the change stream is not live
+ * @param minGzipSize smallest body that is also kept gzip-encoded
+ * @param maxEntries upper bound on cached responses, one per route and {@code Accept} header
+ */
+@ConfigurationProperties("api.http-cache")
+public record HttpCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/employees", "/employees/highestSalary", "/employees/topTenHighestEarningEmployeeNames"})
+                List<String> paths,
+        @DefaultValue("max-age=5, must-revalidate") String cacheControl,
+        @DefaultValue("1KB") DataSize minGzipSize,
+        @DefaultValue("64") int maxEntries) {}
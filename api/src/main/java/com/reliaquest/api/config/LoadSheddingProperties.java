@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the adaptive concurrency limit in front of the employee endpoints.
+ *
+ * @param initialLimit concurrent requests admitted before any latency has been observed
+ * @param minLimit lower bound for the limit
+ * @param maxLimit upper bound for the limit
+ * @param sheddableShare fraction of the limit that sheddable requests may use, so they are rejected first
+ * @param tolerance how much slower than the long-term latency a request may be before the limit shrinks
+ * @param smoothing weight of each new estimate in the limit, from 0 (never moves) to 1 (jumps to every estimate)
+ * @param backoffRatio factor the limit is multiplied by when an admitted request fails with a 5xx
+ * @param longWindow samples averaged into the long-term latency
+ * @param retryAfter {@code Retry-After} sent with a 503 when a request is shed
+ */
+@ConfigurationProperties("api.load-shedding")
+public record LoadSheddingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.5") double sheddableShare,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("600") int longWindow,
+        @DefaultValue("1s") Duration retryAfter) {}
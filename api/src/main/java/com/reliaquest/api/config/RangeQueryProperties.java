@@ -0,0 +1,13 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for salary and age range queries.
+ *
+ * @param defaultPageSize employees per page when the request does not ask for a number
+ * @param maxPageSize upper bound on employees per page
+ */
+@ConfigurationProperties("api.range-query")
+public record RangeQueryProperties(@DefaultValue("50") int defaultPageSize, @DefaultValue("500") int maxPageSize) {}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for retrying failed upstream calls.
+ *
+ * @param defaults policy for operations without an entry in {@code operations}
+ * @param operations policies by operation name, e.g. {@code getAllEmployees}
+ * @param budgetRatio retries allowed per upstream call, e.g. 0.2 allows at most one retry per five calls
+ * @param budgetCapacity retries that may be saved up while the upstream is healthy and spent in a burst
+ */
+@ConfigurationProperties("api.retry")
+public record RetryProperties(
+        @DefaultValue Policy defaults,
+        Map<String, Policy> operations,
+        @DefaultValue("0.2") double budgetRatio,
+        @DefaultValue("10") int budgetCapacity) {
+
+    public RetryProperties {
+        operations = operations == null ? Map.of() : Map.copyOf(operations);
+    }
+
+    public Policy policyFor(String operation) {
+        return operations.getOrDefault(operation, defaults);
+    }
+
+    /**
+     * @param maxAttempts attempts per call, including the first
+     * @param initialBackoff pause before the first retry when the upstream gave no {@code Retry-After}
+     * @param multiplier growth of the pause between consecutive retries
+     * @param maxBackoff upper bound for the computed pause
+     * @param jitter fraction of each pause that is randomized, from 0 (fixed) to 1 (anywhere from zero to the pause)
+     * @param timeout time a call may take across all attempts; a retry whose pause would overrun it is not made
+     */
+    public record Policy(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("1s") Duration initialBackoff,
+            @DefaultValue("2.0") double multiplier,
+            @DefaultValue("30s") Duration maxBackoff,
+            @DefaultValue("0.5") double jitter,
+            @DefaultValue("10s") Duration timeout) {}
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the dashboard summary.
+ *
+ * @param defaultTop highest earners listed when the request does not ask for a number
+ * @param maxTop upper bound on highest earners listed per request
+ */
+@ConfigurationProperties("api.summary")
+public record SummaryProperties(@DefaultValue("10") int defaultTop, @DefaultValue("100") int maxTop) {}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.tracing.LocalTracingConfiguration;
+import com.reliaquest.tracing.TracingProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+
+/*
+ * Local span sampling and export from the tracing module, configured under api.tracing.
+ */
+@Configuration
+@Import(LocalTracingConfiguration.class)
+public class TracingConfiguration {
+
+    @Bean
+    public TracingProperties tracingProperties(Environment environment) {
+        return Binder.get(environment).bindOrCreate("api.tracing", TracingProperties.class);
+    }
+}
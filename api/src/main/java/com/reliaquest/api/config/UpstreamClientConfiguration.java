@@ -0,0 +1,41 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.jfr.UpstreamRecordingInterceptor;
+import com.reliaquest.api.service.DeadlineAwareRequestFactory;
+import com.reliaquest.api.service.PreferBinaryInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class UpstreamClientConfiguration {
+
+    /*
+     * Lets the API read and write application/x-jackson-smile, both towards the mock server and for its own clients.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /*
+     * Upstream connect and read timeouts are cut short by the deadline of the request being served, if any.
+     */
+    @Bean
+    public RestTemplate mockApiRestTemplate(
+            RestTemplateBuilder builder,
+            DeadlineProperties deadlines,
+            @Value("${api.wire-format.prefer-binary:true}") boolean preferBinary) {
+        final RestTemplateBuilder recorded = builder.requestFactory(() -> new DeadlineAwareRequestFactory(
+                        deadlines.upstreamConnectTimeout(), deadlines.upstreamReadTimeout()))
+                .additionalInterceptors(new UpstreamRecordingInterceptor());
+        return preferBinary
+                ? recorded.additionalInterceptors(new PreferBinaryInterceptor()).build()
+                : recorded.build();
+    }
+}
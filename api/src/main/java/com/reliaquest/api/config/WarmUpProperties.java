@@ -0,0 +1,21 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for preloading the employee dataset before the instance reports itself ready.
+ *
+ * @param timeout how long readiness waits for warm-up; after it the instance reports ready with whatever was loaded
+ * @param initialBackoff pause before retrying a failed warm-up
+ * @param maxBackoff upper bound for the pause, which doubles with every failure
+ * @param primeCache whether the preloaded employees are also put in the by-id cache
+ */
+@ConfigurationProperties("api.warm-up")
+public record WarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration timeout,
+        @DefaultValue("500ms") Duration initialBackoff,
+        @DefaultValue("5s") Duration maxBackoff,
+        @DefaultValue("true") boolean primeCache) {}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.jfr.EmployeeRequestRecordingInterceptor;
+import com.reliaquest.api.service.EmployeeChangeSubscriber;
+import com.reliaquest.api.service.EmployeeDataset;
+import com.reliaquest.api.web.DeadlineInterceptor;
+import com.reliaquest.api.web.HttpResponseCacheFilter;
+import com.reliaquest.api.web.LoadSheddingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<LoadSheddingInterceptor> loadSheddingInterceptor;
+    private final ObjectProvider<DeadlineInterceptor> deadlineInterceptor;
+
+    public WebConfiguration(
+            ObjectProvider<LoadSheddingInterceptor> loadSheddingInterceptor,
+            ObjectProvider<DeadlineInterceptor> deadlineInterceptor) {
+        this.loadSheddingInterceptor = loadSheddingInterceptor;
+        this.deadlineInterceptor = deadlineInterceptor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "api.http-cache.enabled", matchIfMissing = true)
+    public HttpResponseCacheFilter httpResponseCacheFilter(
+            HttpCacheProperties properties,
+            MeterRegistry meterRegistry,
+            EmployeeDataset dataset,
+            EmployeeChangeSubscriber changeSubscriber) {
+        return new HttpResponseCacheFilter(
+                properties, meterRegistry, () -> dataset.current().version(), changeSubscriber::isLive);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "api.load-shedding.enabled", matchIfMissing = true)
+    public LoadSheddingInterceptor loadSheddingInterceptor(
+            LoadSheddingProperties properties, MeterRegistry meterRegistry, EmployeeDataset dataset) {
+        return new LoadSheddingInterceptor(properties, meterRegistry, dataset::isFresh);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "api.deadline.enabled", matchIfMissing = true)
+    public DeadlineInterceptor deadlineInterceptor(DeadlineProperties properties) {
+        return new DeadlineInterceptor(properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // First, so requests shed by the interceptors after it are recorded too.
+        registry.addInterceptor(new EmployeeRequestRecordingInterceptor()).addPathPatterns("/employees/**");
+        deadlineInterceptor.ifAvailable(
+                interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/employees/**"));
+        loadSheddingInterceptor.ifAvailable(
+                interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/employees/**"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for asynchronous employee creation.
+ *
+ * @param capacity creates that may wait in the queue before new ones are rejected
+ * @param batchSize creates taken off the queue and written upstream in one pass
+ * @param initialBackoff pause before retrying a batch after the upstream refused a write
+ * @param maxBackoff upper bound for the doubling pause between refused writes
+ * @param maxAttempts upstream refusals tolerated per create before it is marked failed
+ * @param retention how long finished creates stay available for polling
+ */
+@ConfigurationProperties("api.write-behind")
+public record WriteBehindProperties(
+        @DefaultValue("1000") int capacity,
+        @DefaultValue("20") int batchSize,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("20") int maxAttempts,
+        @DefaultValue("10m") Duration retention) {}
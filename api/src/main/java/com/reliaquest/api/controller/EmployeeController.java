@@ -1,10 +1,22 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.dto.CreateTicketDTO;
 import com.reliaquest.api.dto.EmployeeInputDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeSummaryDTO;
+import com.reliaquest.api.dto.TitleSalaryStatsDTO;
 import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.service.EmployeeRangeIndex;
+import com.reliaquest.api.service.EmployeeSummarizer;
+import com.reliaquest.api.service.EmployeeWriteBehindQueue;
 import com.reliaquest.api.service.MockEmployeeApiService;
+import com.reliaquest.api.service.NameAutocompleteIndex;
+import com.reliaquest.api.service.TitleSalaryAnalytics;
+import com.reliaquest.api.web.LoadPriority;
+import com.reliaquest.api.web.LoadPriority.Level;
 import jakarta.validation.*;
+import java.net.URI;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +32,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmployeeController implements IEmployeeController<EmployeeResponseDTO, EmployeeInputDTO> {
 
     private final MockEmployeeApiService employeeService;
+    private final EmployeeWriteBehindQueue writeBehindQueue;
+    private final NameAutocompleteIndex autocompleteIndex;
+    private final EmployeeRangeIndex rangeIndex;
+    private final TitleSalaryAnalytics titleSalaryAnalytics;
+    private final EmployeeSummarizer summarizer;
 
     @Autowired
-    public EmployeeController(MockEmployeeApiService employeeService) {
+    public EmployeeController(
+            MockEmployeeApiService employeeService,
+            EmployeeWriteBehindQueue writeBehindQueue,
+            NameAutocompleteIndex autocompleteIndex,
+            EmployeeRangeIndex rangeIndex,
+            TitleSalaryAnalytics titleSalaryAnalytics,
+            EmployeeSummarizer summarizer) {
         this.employeeService = employeeService;
+        this.writeBehindQueue = writeBehindQueue;
+        this.autocompleteIndex = autocompleteIndex;
+        this.rangeIndex = rangeIndex;
+        this.titleSalaryAnalytics = titleSalaryAnalytics;
+        this.summarizer = summarizer;
     }
 
     @Override
@@ -34,14 +62,58 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
     }
 
     @Override
+    @LoadPriority(Level.SHEDDABLE)
     public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.info("Request: Search employees by name fragment '{}'", searchString);
-        List<EmployeeResponseDTO> all = employeeService.getAllEmployees();
-        List<EmployeeResponseDTO> filtered = all.stream()
-                .filter(e -> e.getEmployee_name() != null
-                        && e.getEmployee_name().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(filtered);
+        List<EmployeeResponseDTO> matches = employeeService.searchEmployeesByName(searchString);
+        return ResponseEntity.ok(matches);
+    }
+
+    @GetMapping("/autocomplete")
+    @LoadPriority(Level.DATASET)
+    public ResponseEntity<List<String>> autocompleteNames(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "NAME") NameAutocompleteIndex.Ranking rankBy) {
+        log.debug("Request: Autocomplete names for prefix '{}' ranked by {}", prefix, rankBy);
+        return ResponseEntity.ok(autocompleteIndex.complete(prefix, limit, rankBy));
+    }
+
+    @GetMapping("/salaryRange")
+    @LoadPriority(Level.DATASET)
+    public ResponseEntity<EmployeePageDTO> getEmployeesBySalaryRange(
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after) {
+        log.info("Request: Get employees with salary in [{}, {}]", min, max);
+        return ResponseEntity.ok(rangeIndex.range(EmployeeRangeIndex.Field.SALARY, min, max, limit, after));
+    }
+
+    @GetMapping("/ageRange")
+    @LoadPriority(Level.DATASET)
+    public ResponseEntity<EmployeePageDTO> getEmployeesByAgeRange(
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after) {
+        log.info("Request: Get employees aged in [{}, {}]", min, max);
+        return ResponseEntity.ok(rangeIndex.range(EmployeeRangeIndex.Field.AGE, min, max, limit, after));
+    }
+
+    @GetMapping("/salaryByTitle")
+    @LoadPriority(Level.DATASET)
+    public ResponseEntity<List<TitleSalaryStatsDTO>> getSalaryStatsByTitle() {
+        log.info("Request: Get salary distribution per title");
+        return ResponseEntity.ok(titleSalaryAnalytics.salaryByTitle());
+    }
+
+    @GetMapping("/summary")
+    @LoadPriority(Level.DATASET)
+    public ResponseEntity<EmployeeSummaryDTO> getEmployeeSummary(
+            @RequestParam(required = false) Integer top, @RequestParam(required = false) String search) {
+        log.info("Request: Get employee summary with top {} and search '{}'", top, search);
+        return ResponseEntity.ok(summarizer.summarize(top, search));
     }
 
     @Override
@@ -58,21 +130,14 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("Request: Get highest salary of employees");
-        List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
-        int max = employees.stream()
-                .mapToInt(EmployeeResponseDTO::getEmployee_salary)
-                .max()
-                .orElse(0);
-        return ResponseEntity.ok(max);
+        Integer max = employeeService.getEmployeeStats().getMaxSalary();
+        return ResponseEntity.ok(max != null ? max : 0);
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("Request: Get top 10 highest earning employee names");
-        List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
-        List<String> top10 = employees.stream()
-                .sorted(Comparator.comparingInt(EmployeeResponseDTO::getEmployee_salary)
-                        .reversed())
+        List<String> top10 = employeeService.getEmployeeStats().getTopEarners().stream()
                 .limit(10)
                 .map(EmployeeResponseDTO::getEmployee_name)
                 .collect(Collectors.toList());
@@ -80,13 +145,34 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
     }
 
     @Override
+    @LoadPriority(Level.SHEDDABLE)
     public ResponseEntity<EmployeeResponseDTO> createEmployee(@Valid @RequestBody EmployeeInputDTO employeeInput) {
         log.info("Request: Create new employee '{}'", employeeInput.getName());
         EmployeeResponseDTO created = employeeService.createEmployee(employeeInput);
         return ResponseEntity.ok(created);
     }
 
+    @PostMapping("/async")
+    public ResponseEntity<CreateTicketDTO> createEmployeeAsync(@Valid @RequestBody EmployeeInputDTO employeeInput) {
+        log.info("Request: Queue creation of employee '{}'", employeeInput.getName());
+        CreateTicketDTO ticket = writeBehindQueue.submit(employeeInput);
+        return ResponseEntity.accepted()
+                .location(URI.create("/employees/async/" + ticket.getToken()))
+                .body(ticket);
+    }
+
+    @GetMapping("/async/{token}")
+    @LoadPriority(Level.CRITICAL)
+    public ResponseEntity<CreateTicketDTO> getCreateStatus(@PathVariable String token) {
+        log.info("Request: Get status of queued create '{}'", token);
+        CreateTicketDTO ticket = writeBehindQueue
+                .getTicket(token)
+                .orElseThrow(() -> new ResourceNotFoundException("Create request '" + token + "' not found"));
+        return ResponseEntity.ok(ticket);
+    }
+
     @Override
+    @LoadPriority(Level.SHEDDABLE)
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         log.info("Request: Delete employee by ID '{}'", id);
         EmployeeResponseDTO employee = employeeService.getEmployeeById(id);
@@ -95,7 +181,7 @@ public class EmployeeController implements IEmployeeController<EmployeeResponseD
             throw new ResourceNotFoundException("Employee with ID '" + id + "' not found");
         }
 
-        boolean deleted = employeeService.deleteEmployeeByName(employee.getEmployee_name());
+        boolean deleted = employeeService.deleteEmployee(employee);
         if (!deleted) {
             log.error("Failed to delete employee '{}'", employee.getEmployee_name());
             throw new RuntimeException("Failed to delete employee with ID " + id);
@@ -0,0 +1,30 @@
+package com.reliaquest.api.dto;
+
+import java.time.Instant;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class CreateTicketDTO {
+    private String token;
+
+    private Status status;
+
+    private EmployeeResponseDTO employee;
+
+    private String error;
+
+    private Instant submittedAt;
+
+    private Instant completedAt;
+
+    public enum Status {
+        QUEUED,
+        IN_PROGRESS,
+        CREATED,
+        FAILED
+    }
+}
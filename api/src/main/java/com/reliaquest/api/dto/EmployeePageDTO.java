@@ -0,0 +1,16 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeePageDTO {
+    private List<EmployeeResponseDTO> employees;
+
+    /** Passed back as {@code after} to fetch the next page; {@code null} on the last page. */
+    private String nextCursor;
+}
@@ -1,5 +1,7 @@
 package com.reliaquest.api.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 @Getter
@@ -7,6 +9,8 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonSerialize(using = EmployeeResponseJson.Serializer.class)
+@JsonDeserialize(using = EmployeeResponseJson.Deserializer.class)
 public class EmployeeResponseDTO {
     private String id;
 
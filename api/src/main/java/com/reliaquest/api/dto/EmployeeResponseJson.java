@@ -0,0 +1,135 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Streaming Jackson (de)serializers for {@link EmployeeResponseDTO}, used instead of the reflective bean
+ * (de)serializers on the list hot path. Field names are the same as those derived from the DTO's properties; unknown
+ * fields are skipped. As with databind, strings are read from any scalar and integers from whole numbers or numeric
+ * strings; any other value fails the read instead of being coerced.
+ */
+public final class EmployeeResponseJson {
+
+    static final String ID = "id";
+    static final String NAME = "employee_name";
+    static final String SALARY = "employee_salary";
+    static final String AGE = "employee_age";
+    static final String TITLE = "employee_title";
+    static final String EMAIL = "employee_email";
+
+    private EmployeeResponseJson() {}
+
+    public static class Serializer extends StdSerializer<EmployeeResponseDTO> {
+
+        private static final SerializableString ID_NAME = new SerializedString(ID);
+        private static final SerializableString NAME_NAME = new SerializedString(NAME);
+        private static final SerializableString SALARY_NAME = new SerializedString(SALARY);
+        private static final SerializableString AGE_NAME = new SerializedString(AGE);
+        private static final SerializableString TITLE_NAME = new SerializedString(TITLE);
+        private static final SerializableString EMAIL_NAME = new SerializedString(EMAIL);
+
+        public Serializer() {
+            super(EmployeeResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponseDTO employee, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(employee);
+            gen.writeFieldName(ID_NAME);
+            gen.writeString(employee.getId());
+            gen.writeFieldName(NAME_NAME);
+            gen.writeString(employee.getEmployee_name());
+            gen.writeFieldName(SALARY_NAME);
+            writeInteger(employee.getEmployee_salary(), gen);
+            gen.writeFieldName(AGE_NAME);
+            writeInteger(employee.getEmployee_age(), gen);
+            gen.writeFieldName(TITLE_NAME);
+            gen.writeString(employee.getEmployee_title());
+            gen.writeFieldName(EMAIL_NAME);
+            gen.writeString(employee.getEmployee_email());
+            gen.writeEndObject();
+        }
+
+        private static void writeInteger(Integer value, JsonGenerator gen) throws IOException {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+    }
+
+    public static class Deserializer extends StdDeserializer<EmployeeResponseDTO> {
+
+        public Deserializer() {
+            super(EmployeeResponseDTO.class);
+        }
+
+        @Override
+        public EmployeeResponseDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            }
+            if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (EmployeeResponseDTO) ctxt.handleUnexpectedToken(EmployeeResponseDTO.class, p);
+            }
+            final EmployeeResponseDTO employee = new EmployeeResponseDTO();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                final String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case ID -> employee.setId(readString(p, ctxt));
+                    case NAME -> employee.setEmployee_name(readString(p, ctxt));
+                    case SALARY -> employee.setEmployee_salary(readInteger(p, ctxt));
+                    case AGE -> employee.setEmployee_age(readInteger(p, ctxt));
+                    case TITLE -> employee.setEmployee_title(readString(p, ctxt));
+                    case EMAIL -> employee.setEmployee_email(readString(p, ctxt));
+                    default -> p.skipChildren();
+                }
+            }
+            return employee;
+        }
+
+        private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+            final JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return p.getText();
+            }
+            return (String) ctxt.handleUnexpectedToken(String.class, p);
+        }
+
+        private static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return switch (p.currentToken()) {
+                case VALUE_NULL -> null;
+                case VALUE_NUMBER_INT -> p.getIntValue(); // fails rather than wraps when out of range
+                case VALUE_STRING -> parseInteger(p.getText().trim(), ctxt);
+                default -> (Integer) ctxt.handleUnexpectedToken(Integer.class, p);
+            };
+        }
+
+        private static Integer parseInteger(String text, DeserializationContext ctxt) throws IOException {
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(text);
+            } catch (NumberFormatException e) {
+                return (Integer) ctxt.handleWeirdStringValue(Integer.class, text, "not a valid Integer value");
+            }
+        }
+    }
+}
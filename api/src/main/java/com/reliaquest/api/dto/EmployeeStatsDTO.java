@@ -0,0 +1,22 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Aggregates precomputed by the mock server; {@code topEarners} is ordered highest salary first.
+ */
+@Getter
+@Setter
+public class EmployeeStatsDTO {
+    private int count;
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private long totalSalary;
+
+    private List<EmployeeResponseDTO> topEarners;
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeStatsResponseWrapper {
+    private String status;
+    private EmployeeStatsDTO data;
+}
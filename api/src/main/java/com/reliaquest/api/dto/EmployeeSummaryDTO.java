@@ -0,0 +1,27 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * What a dashboard shows of the employees, computed from one copy of the dataset so the figures agree with each other.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeSummaryDTO {
+    private int count;
+
+    private int highestSalary;
+
+    /** Names of the highest earners, highest first. */
+    private List<String> topEarnerNames;
+
+    /** Employees whose name contains the search string; {@code null} when no search was asked for. */
+    private List<EmployeeResponseDTO> searchHits;
+
+    /** Version of the dataset the summary was computed from. */
+    private long datasetVersion;
+}
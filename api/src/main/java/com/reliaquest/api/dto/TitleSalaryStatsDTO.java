@@ -0,0 +1,26 @@
+package com.reliaquest.api.dto;
+
+import lombok.*;
+
+/**
+ * Salary distribution of the employees holding one title. Percentiles are estimates within about 1.6% of the true
+ * value; {@code count} and {@code mean} are exact.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TitleSalaryStatsDTO {
+    private String title;
+
+    private long count;
+
+    private double mean;
+
+    private int p50;
+
+    private int p90;
+
+    private int p99;
+}
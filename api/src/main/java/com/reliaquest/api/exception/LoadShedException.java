@@ -0,0 +1,17 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+public class LoadShedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoadShedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
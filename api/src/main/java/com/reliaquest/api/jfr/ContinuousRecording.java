@@ -0,0 +1,89 @@
+package com.reliaquest.api.jfr;
+
+import com.reliaquest.api.config.FlightRecorderProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An always-on flight recording with the JDK's low-overhead {@code default} settings plus this application's events,
+ * keeping the last {@code maxAge} of data, up to {@code maxSize}, on disk so it can be dumped after an incident.
+ * Environment variables and system properties are left out, as they may hold secrets.
+ */
+@Slf4j
+public class ContinuousRecording {
+
+    private final FlightRecorderProperties properties;
+    private Recording recording;
+
+    public ContinuousRecording(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized void start() {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight Recorder is not available in this JVM; not recording");
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration(properties.settings()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load flight recorder settings '" + properties.settings() + "'", e);
+        }
+        recording.setName("employee-api");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.enable(UpstreamRequestEvent.class);
+        recording.enable(UpstreamAttemptEvent.class);
+        recording.enable(RetryBackoffEvent.class);
+        recording.enable(UpstreamRecoverEvent.class);
+        recording.enable(EmployeeCacheLookupEvent.class);
+        recording.enable(EmployeeRequestEvent.class);
+        recording.disable("jdk.InitialEnvironmentVariable");
+        recording.disable("jdk.InitialSystemProperty");
+        recording.start();
+        log.info("Flight recording started, keeping {} up to {}", properties.maxAge(), properties.maxSize());
+    }
+
+    /**
+     * Writes what the recording holds to a new file in {@code dumpDirectory}, unique to this call, which the caller
+     * owns and should delete once done with it.
+     *
+     * @throws IllegalStateException if nothing is being recorded
+     */
+    public synchronized Path dump() {
+        if (recording == null) {
+            throw new IllegalStateException("Flight recording is not running");
+        }
+        try {
+            final Path directory = properties.dumpDirectory() != null
+                    ? properties.dumpDirectory()
+                    : Path.of(System.getProperty("java.io.tmpdir"));
+            Files.createDirectories(directory);
+            final Path file = Files.createTempFile(directory, "employee-api-", ".jfr");
+            try {
+                recording.dump(file);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump the flight recording", e);
+        }
+    }
+
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
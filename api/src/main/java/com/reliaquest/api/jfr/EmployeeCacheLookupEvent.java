@@ -0,0 +1,35 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.EmployeeCacheLookup")
+@Label("Employee Cache Lookup")
+@Category({"Employee API", "Cache"})
+@Description("Lookup of an employee by id in the local cache; a miss lasts until the upstream answered")
+@StackTrace(false)
+public class EmployeeCacheLookupEvent extends Event {
+
+    @Label("Id")
+    String id;
+
+    @Label("Result")
+    @Description("hit, negative or miss")
+    String result;
+
+    public static EmployeeCacheLookupEvent begin(String id) {
+        final var event = new EmployeeCacheLookupEvent();
+        event.id = id;
+        event.begin();
+        return event;
+    }
+
+    public void finished(String result) {
+        this.result = result;
+        commit();
+    }
+}
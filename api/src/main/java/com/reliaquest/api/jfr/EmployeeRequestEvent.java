@@ -0,0 +1,46 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.EmployeeRequest")
+@Label("Employee Request")
+@Category({"Employee API", "Controller"})
+@Description("Request handled by EmployeeController, from handler selection until the response was complete")
+@StackTrace(false)
+public class EmployeeRequestEvent extends Event {
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+
+    @Label("Error")
+    String error;
+
+    public static EmployeeRequestEvent begin(String handler, String method, String path) {
+        final var event = new EmployeeRequestEvent();
+        event.handler = handler;
+        event.method = method;
+        event.path = path;
+        event.begin();
+        return event;
+    }
+
+    public void completed(int status, Exception error) {
+        this.status = status;
+        this.error = error == null ? null : error.toString();
+        commit();
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records every request handled by the employee controller as an {@link EmployeeRequestEvent}.
+ */
+public class EmployeeRequestRecordingInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT = EmployeeRequestRecordingInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final String name = handler instanceof HandlerMethod method
+                ? method.getMethod().getName()
+                : handler.getClass().getSimpleName();
+        request.setAttribute(EVENT, EmployeeRequestEvent.begin(name, request.getMethod(), request.getRequestURI()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(EVENT) instanceof EmployeeRequestEvent event) {
+            request.removeAttribute(EVENT);
+            event.completed(response.getStatus(), ex);
+        }
+    }
+}
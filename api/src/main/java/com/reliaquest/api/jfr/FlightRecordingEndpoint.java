@@ -0,0 +1,56 @@
+package com.reliaquest.api.jfr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Dumps the {@link ContinuousRecording} on {@code POST /actuator/flightrecording} and downloads it, ready to open in
+ * JDK Mission Control or {@code jfr print}. Each call dumps to a file of its own, deleted once it has been sent. The
+ * endpoint is not exposed over HTTP unless added to {@code management.endpoints.web.exposure.include}.
+ */
+@Endpoint(id = "flightrecording")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private final ContinuousRecording recording;
+
+    @WriteOperation(produces = "application/octet-stream")
+    public Resource dump() {
+        return new DumpResource(recording.dump());
+    }
+
+    /**
+     * A dump file that is deleted when the stream reading it is closed.
+     */
+    static final class DumpResource extends FileSystemResource {
+
+        private final Path file;
+
+        DumpResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+    }
+}
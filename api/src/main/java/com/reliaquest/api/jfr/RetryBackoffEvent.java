@@ -0,0 +1,37 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.reliaquest.api.RetryBackoff")
+@Label("Retry Backoff")
+@Category({"Employee API", "Upstream"})
+@Description("Sleep before retrying a failed upstream operation")
+@StackTrace(false)
+public class RetryBackoffEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Planned Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedDelay;
+
+    @Label("Retry-After")
+    @Description("Whether the delay was asked for by the upstream with Retry-After")
+    boolean retryAfter;
+
+    public static RetryBackoffEvent begin(String operation, long plannedDelayMillis, boolean retryAfter) {
+        final var event = new RetryBackoffEvent();
+        event.operation = operation;
+        event.plannedDelay = plannedDelayMillis;
+        event.retryAfter = retryAfter;
+        event.begin();
+        return event;
+    }
+}
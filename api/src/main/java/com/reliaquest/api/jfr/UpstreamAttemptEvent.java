@@ -0,0 +1,42 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamAttempt")
+@Label("Upstream Attempt")
+@Category({"Employee API", "Upstream"})
+@Description("One attempt of a retried upstream operation, including any hedged requests it made")
+@StackTrace(false)
+public class UpstreamAttemptEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Failure")
+    String failure;
+
+    public static UpstreamAttemptEvent begin(String operation, int attempt) {
+        final var event = new UpstreamAttemptEvent();
+        event.operation = operation;
+        event.attempt = attempt;
+        event.begin();
+        return event;
+    }
+
+    public void succeeded() {
+        commit();
+    }
+
+    public void failed(Throwable failure) {
+        this.failure = failure.toString();
+        commit();
+    }
+}
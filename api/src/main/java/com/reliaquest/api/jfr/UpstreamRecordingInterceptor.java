@@ -0,0 +1,28 @@
+package com.reliaquest.api.jfr;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records every upstream request as an {@link UpstreamRequestEvent}.
+ */
+public class UpstreamRecordingInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        final var event =
+                UpstreamRequestEvent.begin(request.getMethod().name(), request.getURI().toString(), body.length);
+        try {
+            final ClientHttpResponse response = execution.execute(request, body);
+            event.completed(response.getStatusCode().value(), response.getHeaders().getContentLength());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            event.failed(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamRecover")
+@Label("Upstream Recover")
+@Category({"Employee API", "Upstream"})
+@Description("Fallback taken after an upstream operation failed and will not be retried again")
+@StackTrace(false)
+public class UpstreamRecoverEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Attempts")
+    int attempts;
+
+    @Label("Failure")
+    String failure;
+
+    public static void emit(String operation, int attempts, Throwable failure) {
+        final var event = new UpstreamRecoverEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.attempts = attempts;
+            event.failure = String.valueOf(failure);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.api.UpstreamRequest")
+@Label("Upstream Request")
+@Category({"Employee API", "Upstream"})
+@Description("HTTP request to a mock server instance, until its response headers arrived")
+@StackTrace(false)
+public class UpstreamRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @Description("Declared Content-Length, or -1 when the response did not declare one")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Error")
+    String error;
+
+    public static UpstreamRequestEvent begin(String method, String uri, long requestBytes) {
+        final var event = new UpstreamRequestEvent();
+        event.method = method;
+        event.uri = uri;
+        event.requestBytes = requestBytes;
+        event.begin();
+        return event;
+    }
+
+    public void completed(int status, long responseBytes) {
+        this.status = status;
+        this.responseBytes = responseBytes;
+        commit();
+    }
+
+    public void failed(Throwable error) {
+        this.error = error.toString();
+        commit();
+    }
+}
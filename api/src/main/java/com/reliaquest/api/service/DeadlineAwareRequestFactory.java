@@ -0,0 +1,46 @@
+package com.reliaquest.api.service;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * Opens upstream connections with the configured connect and read timeouts, shortened to what is left of the calling
+ * thread's {@link RequestDeadline} so a blocked upstream read never outlives the client request.
+ */
+public class DeadlineAwareRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    public DeadlineAwareRequestFactory(Duration connectTimeout, Duration readTimeout) {
+        this.connectTimeoutMillis = (int) connectTimeout.toMillis();
+        this.readTimeoutMillis = (int) readTimeout.toMillis();
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        final long remaining = remainingMillisRoundedUp();
+        connection.setConnectTimeout(bounded(connectTimeoutMillis, remaining));
+        connection.setReadTimeout(bounded(readTimeoutMillis, remaining));
+    }
+
+    /*
+     * Rounded up so a timeout firing means the deadline has passed too.
+     */
+    private static long remainingMillisRoundedUp() {
+        final long nanos = RequestDeadline.remainingNanos();
+        return nanos == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(nanos + 999_999);
+    }
+
+    /*
+     * HttpURLConnection treats a zero timeout as infinite, so an exhausted deadline still waits a millisecond.
+     */
+    private static int bounded(int configuredMillis, long remainingMillis) {
+        final long timeout = configuredMillis > 0 ? Math.min(configuredMillis, remainingMillis) : remainingMillis;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, timeout));
+    }
+}
@@ -0,0 +1,339 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.jfr.EmployeeCacheLookupEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of employees by id, evicting by W-TinyLFU (Caffeine) or plain LRU and weighing entries by their
+ * approximate footprint. Lookups that found nothing are cached as negative entries for {@code negativeTtl}.
+ *
+ * <p>Hit, miss and eviction counts are published as {@code employee.api.cache.*} meters, and each lookup is recorded
+ * as a JFR event.
+ *
+ * <p>Writes and invalidations advance a generation under a write lock. A loaded employee is only stored if no
+ * generation passed while it was loading, so a load racing with a delete cannot put back the employee just dropped.
+ */
+@Component
+public class EmployeeCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int NEGATIVE_ENTRY_BYTES = 64;
+
+    private final EmployeeCacheProperties properties;
+    private final Store store;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+
+    private volatile long generation;
+
+    public EmployeeCache(EmployeeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = properties.eviction() == EmployeeCacheProperties.Eviction.LRU
+                ? new LruStore(properties.maxSize().toBytes())
+                : new CaffeineStore(properties.maxSize().toBytes());
+        registerMeters(meterRegistry);
+    }
+
+    /**
+     * Returns the cached employee for {@code id}, or {@code null} if it is cached as missing. On a miss the employee is
+     * loaded with {@code loader}, which returns {@code null} when the employee does not exist.
+     */
+    public EmployeeResponseDTO get(String id, Function<String, EmployeeResponseDTO> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(id);
+        }
+        final var event = EmployeeCacheLookupEvent.begin(id);
+        final Entry cached = store.get(id);
+        if (cached != null) {
+            (cached.employee() == null ? negativeHits : hits).increment();
+            event.finished(cached.employee() == null ? "negative" : "hit");
+            return cached.employee();
+        }
+        misses.increment();
+        final long loadedIn = generation;
+        try {
+            final EmployeeResponseDTO loaded = loader.apply(id);
+            storeIfUnchanged(id, loaded == null ? negative() : positive(loaded), loadedIn);
+            return loaded;
+        } finally {
+            event.finished("miss");
+        }
+    }
+
+    /**
+     * Caches a freshly written employee, replacing any negative entry for its id.
+     */
+    public void put(EmployeeResponseDTO employee) {
+        if (properties.enabled() && employee != null && employee.getId() != null) {
+            changing(() -> store.put(employee.getId(), positive(employee)));
+        }
+    }
+
+    public void invalidate(String id) {
+        changing(() -> store.invalidateIf(id, entry -> true));
+    }
+
+    /**
+     * Drops every cached employee and negative entry, for when changes may have been missed.
+     */
+    public void invalidateAll() {
+        changing(() -> store.invalidateIf(null, entry -> true));
+    }
+
+    /**
+     * Drops every cached employee named {@code name}, ignoring case, as the upstream deletes by name.
+     */
+    public void invalidateByName(String name) {
+        final Predicate<Entry> named =
+                entry -> entry.employee() != null && name.equalsIgnoreCase(entry.employee().getEmployee_name());
+        changing(() -> store.invalidateIf(null, named));
+    }
+
+    public long size() {
+        return store.size();
+    }
+
+    private void storeIfUnchanged(String id, Entry entry, long loadedIn) {
+        final Lock lock = generationLock.readLock();
+        lock.lock();
+        try {
+            if (generation == loadedIn) {
+                store.put(id, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void changing(Runnable change) {
+        final Lock lock = generationLock.writeLock();
+        lock.lock();
+        try {
+            generation++;
+            change.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry positive(EmployeeResponseDTO employee) {
+        return new Entry(employee, properties.expireAfterWrite().toNanos(), weigh(employee), System.nanoTime());
+    }
+
+    private Entry negative() {
+        return new Entry(null, properties.negativeTtl().toNanos(), NEGATIVE_ENTRY_BYTES, System.nanoTime());
+    }
+
+    private static int weigh(EmployeeResponseDTO employee) {
+        final int chars = length(employee.getId())
+                + length(employee.getEmployee_name())
+                + length(employee.getEmployee_title())
+                + length(employee.getEmployee_email());
+        return ENTRY_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private void registerMeters(MeterRegistry meterRegistry) {
+        cacheCounter(meterRegistry, "employee.api.cache.gets", hits, "result", "hit");
+        cacheCounter(meterRegistry, "employee.api.cache.gets", negativeHits, "result", "negative");
+        cacheCounter(meterRegistry, "employee.api.cache.gets", misses, "result", "miss");
+        cacheCounter(meterRegistry, "employee.api.cache.evictions", evictions, "eviction", eviction());
+        Gauge.builder("employee.api.cache.size", store, Store::size).register(meterRegistry);
+        Gauge.builder("employee.api.cache.weight", store, Store::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private String eviction() {
+        return properties.eviction().name().toLowerCase();
+    }
+
+    private static void cacheCounter(
+            MeterRegistry meterRegistry, String name, LongAdder adder, String tagKey, String tagValue) {
+        FunctionCounter.builder(name, adder, LongAdder::sum).tag(tagKey, tagValue).register(meterRegistry);
+    }
+
+    /**
+     * A cached lookup; {@code employee} is {@code null} for a negative entry.
+     */
+    private record Entry(EmployeeResponseDTO employee, long ttlNanos, int weight, long writtenAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - writtenAtNanos >= ttlNanos;
+        }
+    }
+
+    private interface Store {
+
+        Entry get(String id);
+
+        void put(String id, Entry entry);
+
+        /** Removes the entry for {@code id}, or every matching entry when {@code id} is {@code null}. */
+        void invalidateIf(String id, Predicate<Entry> predicate);
+
+        long size();
+
+        long weight();
+    }
+
+    private class CaffeineStore implements Store {
+
+        private final Cache<String, Entry> cache;
+
+        CaffeineStore(long maxWeight) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumWeight(maxWeight)
+                    .weigher((String id, Entry entry) -> entry.weight())
+                    .expireAfter(new Expiry<String, Entry>() {
+                        @Override
+                        public long expireAfterCreate(String id, Entry entry, long currentTime) {
+                            return entry.ttlNanos();
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+                            return entry.ttlNanos();
+                        }
+
+                        @Override
+                        public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    // Run maintenance inline so evictions are visible to the next reader.
+                    .executor(Runnable::run)
+                    .evictionListener((String id, Entry entry, RemovalCause cause) -> {
+                        if (cause == RemovalCause.SIZE) {
+                            evictions.increment();
+                        }
+                    })
+                    .build();
+        }
+
+        @Override
+        public Entry get(String id) {
+            return cache.getIfPresent(id);
+        }
+
+        @Override
+        public void put(String id, Entry entry) {
+            cache.put(id, entry);
+        }
+
+        @Override
+        public void invalidateIf(String id, Predicate<Entry> predicate) {
+            if (id != null) {
+                cache.asMap().computeIfPresent(id, (key, entry) -> predicate.test(entry) ? null : entry);
+            } else {
+                cache.asMap().values().removeIf(predicate);
+            }
+        }
+
+        @Override
+        public long size() {
+            return cache.estimatedSize();
+        }
+
+        @Override
+        public long weight() {
+            return cache.policy()
+                    .eviction()
+                    .map(eviction -> eviction.weightedSize().orElse(0L))
+                    .orElse(0L);
+        }
+    }
+
+    private class LruStore implements Store {
+
+        private final long maxWeight;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        LruStore(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        @Override
+        public synchronized Entry get(String id) {
+            final Entry entry = entries.get(id);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                remove(id);
+                return null;
+            }
+            return entry;
+        }
+
+        @Override
+        public synchronized void put(String id, Entry entry) {
+            final Entry previous = entries.put(id, entry);
+            weight += entry.weight() - (previous == null ? 0 : previous.weight());
+            final Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                final Map.Entry<String, Entry> evicted = eldest.next();
+                weight -= evicted.getValue().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+
+        @Override
+        public synchronized void invalidateIf(String id, Predicate<Entry> predicate) {
+            if (id != null) {
+                final Entry entry = entries.get(id);
+                if (entry != null && predicate.test(entry)) {
+                    remove(id);
+                }
+                return;
+            }
+            final Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                final Entry entry = iterator.next();
+                if (predicate.test(entry)) {
+                    weight -= entry.weight();
+                    iterator.remove();
+                }
+            }
+        }
+
+        @Override
+        public synchronized long size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized long weight() {
+            return weight;
+        }
+
+        private void remove(String id) {
+            final Entry removed = entries.remove(id);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.ChangeStreamProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Follows each upstream shard's {@code /employee/changes} Server-Sent Events stream and republishes the changes as
+ * {@link EmployeeCreatedEvent}s and {@link EmployeeDeletedEvent}s, so every API replica's dataset and cache see writes
+ * made through any replica without polling. A stream that ends or fails is reopened after a backoff with
+ * {@code Last-Event-ID}, so no change is missed; a {@code reset} event means changes were missed anyway and the
+ * dataset is fetched again.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeSubscriber {
+
+    private final UpstreamShards shards;
+    private final ChangeStreamProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeDataset dataset;
+    private final EmployeeCache employeeCache;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final List<Thread> followers = new ArrayList<>();
+    private final AtomicInteger connected = new AtomicInteger();
+
+    public EmployeeChangeSubscriber(
+            UpstreamShards shards,
+            ChangeStreamProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            EmployeeDataset dataset,
+            EmployeeCache employeeCache,
+            ObjectMapper objectMapper) {
+        this.shards = shards;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.dataset = dataset;
+        this.employeeCache = employeeCache;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.connectTimeout())
+                .build();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        for (int shard = 0; shard < shards.size(); shard++) {
+            final int target = shard;
+            final Thread follower = new Thread(() -> follow(target), "employee-changes-" + shard);
+            follower.setDaemon(true);
+            follower.start();
+            followers.add(follower);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        followers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * @return whether the streams of every shard are connected, so writes made through other replicas are being
+     *     applied as they happen
+     */
+    public boolean isLive() {
+        return properties.enabled() && connected.get() == shards.size();
+    }
+
+    private void follow(int shard) {
+        String lastEventId = null;
+        Duration backoff = properties.initialBackoff();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                lastEventId = stream(shard, lastEventId);
+                backoff = properties.initialBackoff();
+            } catch (IOException | RuntimeException e) {
+                log.warn(
+                        "Change stream from {} failed, reconnecting in {}: {}",
+                        shards.baseUrl(shard),
+                        backoff,
+                        e.getMessage());
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoff = min(backoff.multipliedBy(2), properties.maxBackoff());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads one connection's worth of events from {@code shard}, resuming after {@code lastEventId} when set.
+     *
+     * @return the id of the last event received, to resume from on the next connection
+     */
+    String stream(int shard, String lastEventId) throws IOException, InterruptedException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create(shards.baseUrl(shard) + "/employee/changes"))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        final HttpResponse<Stream<String>> response =
+                httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        try (Stream<String> lines = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Change stream answered " + response.statusCode());
+            }
+            log.info("Following employee changes from {} after {}", shards.baseUrl(shard), lastEventId);
+            connected.incrementAndGet();
+            try {
+                return read(lines, lastEventId);
+            } finally {
+                connected.decrementAndGet();
+            }
+        }
+    }
+
+    private String read(Stream<String> lines, String lastEventId) throws IOException {
+        String id = null;
+        String event = "message";
+        final StringBuilder data = new StringBuilder();
+        for (Iterator<String> it = lines.iterator(); it.hasNext(); ) {
+            final String line = it.next();
+            if (line.isEmpty()) {
+                if (id != null) {
+                    lastEventId = id;
+                }
+                if (!data.isEmpty()) {
+                    apply(event, data.toString());
+                }
+                id = null;
+                event = "message";
+                data.setLength(0);
+            } else if (line.startsWith("id:")) {
+                id = value(line);
+            } else if (line.startsWith("event:")) {
+                event = value(line);
+            } else if (line.startsWith("data:")) {
+                if (!data.isEmpty()) {
+                    data.append('\n');
+                }
+                data.append(value(line));
+            }
+        }
+        return lastEventId;
+    }
+
+    private void apply(String event, String data) throws IOException {
+        switch (event) {
+            case "created" -> {
+                final EmployeeResponseDTO employee = objectMapper.readValue(data, EmployeeResponseDTO.class);
+                employeeCache.put(employee);
+                eventPublisher.publishEvent(new EmployeeCreatedEvent(employee));
+            }
+            case "deleted" -> {
+                final EmployeeResponseDTO employee = objectMapper.readValue(data, EmployeeResponseDTO.class);
+                if (employee.getId() != null) {
+                    employeeCache.invalidate(employee.getId());
+                }
+                eventPublisher.publishEvent(new EmployeeDeletedEvent(employee.getEmployee_name(), employee.getId()));
+            }
+            case "reset" -> {
+                log.warn("Missed employee changes, dropping cached employees and fetching the dataset again");
+                employeeCache.invalidateAll();
+                dataset.refresh();
+            }
+            default -> log.debug("Ignoring change stream event '{}'", event);
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static String value(String line) {
+        final String value = line.substring(line.indexOf(':') + 1);
+        return value.startsWith(" ") ? value.substring(1) : value;
+    }
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+
+/**
+ * Published once the upstream has confirmed a new employee.
+ */
+public record EmployeeCreatedEvent(EmployeeResponseDTO employee) {}
@@ -0,0 +1,183 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.DatasetProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local copy of every employee, held as an immutable versioned {@link Snapshot}. The copy is fetched on first use and
+ * again once it is older than {@code refreshInterval}; in between, creates and deletes made through this API or
+ * pushed by the upstream change stream are applied to it directly. While one caller refreshes a stale copy, others
+ * keep reading the stale one.
+ *
+ * <p>Indexes register as {@link Listener}s: they are handed the whole dataset on every fetch and each change in
+ * between, always one at a time.
+ */
+@Slf4j
+@Component
+public class EmployeeDataset {
+
+    private final MockEmployeeApiService employeeService;
+    private final long refreshIntervalNanos;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Object changeLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public EmployeeDataset(MockEmployeeApiService employeeService, DatasetProperties properties) {
+        this.employeeService = employeeService;
+        this.refreshIntervalNanos = properties.refreshInterval().toNanos();
+    }
+
+    /**
+     * @param version increases with every fetch and every change applied
+     */
+    public record Snapshot(long version, List<EmployeeResponseDTO> employees, long loadedAtNanos) {}
+
+    public interface Listener {
+
+        void onSnapshot(List<EmployeeResponseDTO> employees);
+
+        void onCreated(EmployeeResponseDTO employee);
+
+        void onDeleted(EmployeeResponseDTO employee);
+    }
+
+    /**
+     * Registers {@code listener}, handing it the current dataset if one has been fetched.
+     */
+    public void addListener(Listener listener) {
+        synchronized (changeLock) {
+            listeners.add(listener);
+            if (snapshot != null) {
+                listener.onSnapshot(snapshot.employees());
+            }
+        }
+    }
+
+    /**
+     * Returns the current snapshot, fetching it first if there is none or it has gone stale.
+     */
+    public Snapshot current() {
+        final Snapshot current = snapshot;
+        if (current != null && !isStale(current)) {
+            return current;
+        }
+        if (current != null && !refreshLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+        try {
+            final Snapshot latest = snapshot;
+            return latest != null && latest != current && !isStale(latest) ? latest : load(latest);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * @return whether {@link #current()} would return without fetching, because a fresh snapshot is loaded
+     */
+    public boolean isFresh() {
+        final Snapshot current = snapshot;
+        return current != null && !isStale(current);
+    }
+
+    /**
+     * Fetches the dataset now, whether or not the current copy is stale.
+     */
+    public Snapshot refresh() {
+        refreshLock.lock();
+        try {
+            return load(null);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the created employee, unless it is already present because the change arrived both from a write made here
+     * and from the change stream.
+     */
+    @EventListener
+    public void onCreated(EmployeeCreatedEvent event) {
+        synchronized (changeLock) {
+            if (snapshot == null || event.employee() == null || indexOf(event.employee().getId(), null) >= 0) {
+                return;
+            }
+            final List<EmployeeResponseDTO> employees = new ArrayList<>(snapshot.employees());
+            employees.add(event.employee());
+            publish(employees, snapshot.loadedAtNanos());
+            listeners.forEach(listener -> listener.onCreated(event.employee()));
+        }
+    }
+
+    /**
+     * Removes the deleted employee: by id when the event carries one, otherwise the first with a matching name.
+     */
+    @EventListener
+    public void onDeleted(EmployeeDeletedEvent event) {
+        synchronized (changeLock) {
+            if (snapshot == null) {
+                return;
+            }
+            final int index = indexOf(event.id(), event.id() == null ? event.name() : null);
+            if (index < 0) {
+                return;
+            }
+            final List<EmployeeResponseDTO> employees = new ArrayList<>(snapshot.employees());
+            final EmployeeResponseDTO removed = employees.remove(index);
+            publish(employees, snapshot.loadedAtNanos());
+            listeners.forEach(listener -> listener.onDeleted(removed));
+        }
+    }
+
+    private int indexOf(String id, String name) {
+        final List<EmployeeResponseDTO> employees = snapshot.employees();
+        for (int i = 0; i < employees.size(); i++) {
+            final EmployeeResponseDTO employee = employees.get(i);
+            if ((id != null && id.equals(employee.getId()))
+                    || (name != null && name.equalsIgnoreCase(employee.getEmployee_name()))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Snapshot load(Snapshot stale) {
+        try {
+            final List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
+            synchronized (changeLock) {
+                final Snapshot loaded = publish(employees, System.nanoTime());
+                listeners.forEach(listener -> listener.onSnapshot(loaded.employees()));
+                log.debug("Loaded employee dataset version {} with {} employees", loaded.version(), employees.size());
+                return loaded;
+            }
+        } catch (RuntimeException e) {
+            if (stale == null) {
+                throw e;
+            }
+            log.warn("Refreshing the employee dataset failed, serving version {}: {}", stale.version(), e.getMessage());
+            return stale;
+        }
+    }
+
+    private Snapshot publish(List<EmployeeResponseDTO> employees, long loadedAtNanos) {
+        final long version = snapshot == null ? 1 : snapshot.version() + 1;
+        snapshot = new Snapshot(version, List.copyOf(employees), loadedAtNanos);
+        return snapshot;
+    }
+
+    private boolean isStale(Snapshot current) {
+        return System.nanoTime() - current.loadedAtNanos() >= refreshIntervalNanos;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.service;
+
+/**
+ * Published once the upstream has deleted an employee; the upstream deletes the first employee with a matching name,
+ * ignoring case. {@code id} is known only when the upstream reported which employee it deleted.
+ */
+public record EmployeeDeletedEvent(String name, String id) {
+
+    public EmployeeDeletedEvent(String name) {
+        this(name, null);
+    }
+}
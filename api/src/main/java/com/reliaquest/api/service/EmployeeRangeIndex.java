@@ -0,0 +1,157 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.RangeQueryProperties;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.InvalidRequestException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sorted secondary indexes over employee salary and age, kept in step with the {@link EmployeeDataset}: rebuilt on
+ * every fetch and updated in place on each create and delete. Each index is a skip list ordered by value then id, so a
+ * page of a range query costs O(log n + k) for k employees returned.
+ *
+ * <p>Pages are keyed by the last employee returned rather than by offset, so later pages cost no more than the first
+ * and do not shift when employees are created or deleted in between.
+ */
+@Component
+public class EmployeeRangeIndex implements EmployeeDataset.Listener {
+
+    public enum Field {
+        SALARY(EmployeeResponseDTO::getEmployee_salary),
+        AGE(EmployeeResponseDTO::getEmployee_age);
+
+        private final Function<EmployeeResponseDTO, Integer> value;
+
+        Field(Function<EmployeeResponseDTO, Integer> value) {
+            this.value = value;
+        }
+    }
+
+    private final EmployeeDataset dataset;
+    private final RangeQueryProperties properties;
+
+    private volatile Map<Field, ConcurrentSkipListMap<Key, EmployeeResponseDTO>> indexes = build(List.of());
+
+    public EmployeeRangeIndex(EmployeeDataset dataset, RangeQueryProperties properties) {
+        this.dataset = dataset;
+        this.properties = properties;
+        dataset.addListener(this);
+    }
+
+    /**
+     * Returns one page of employees whose {@code field} lies in {@code [min, max]}, in ascending order.
+     *
+     * @param min lower bound, or {@code null} for none
+     * @param max upper bound, or {@code null} for none
+     * @param limit page size, or {@code null} for {@code defaultPageSize}; capped at {@code maxPageSize}
+     * @param after {@code nextCursor} of the previous page, or {@code null} for the first page
+     */
+    public EmployeePageDTO range(Field field, Integer min, Integer max, Integer limit, String after) {
+        final int lower = min == null ? Integer.MIN_VALUE : min;
+        final int upper = max == null ? Integer.MAX_VALUE : max;
+        final int pageSize = Math.min(limit == null ? properties.defaultPageSize() : limit, properties.maxPageSize());
+        if (pageSize <= 0) {
+            throw new InvalidRequestException("limit must be positive");
+        }
+        final Key cursor = after == null ? null : Key.parse(after);
+        dataset.current();
+
+        final ConcurrentSkipListMap<Key, EmployeeResponseDTO> index = indexes.get(field);
+        final NavigableMap<Key, EmployeeResponseDTO> tail = cursor == null || cursor.value() < lower
+                ? index.tailMap(new Key(lower, ""), true)
+                : index.tailMap(cursor, false);
+        final List<EmployeeResponseDTO> page = new ArrayList<>(Math.min(pageSize, 64));
+        Key last = null;
+        for (Map.Entry<Key, EmployeeResponseDTO> entry : tail.entrySet()) {
+            if (entry.getKey().value() > upper) {
+                return new EmployeePageDTO(page, null);
+            }
+            if (page.size() == pageSize) {
+                return new EmployeePageDTO(page, last.format());
+            }
+            page.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new EmployeePageDTO(page, null);
+    }
+
+    @Override
+    public void onSnapshot(List<EmployeeResponseDTO> employees) {
+        indexes = build(employees);
+    }
+
+    @Override
+    public void onCreated(EmployeeResponseDTO employee) {
+        indexes.forEach((field, index) -> {
+            final Key key = Key.of(field, employee);
+            if (key != null) {
+                index.put(key, employee);
+            }
+        });
+    }
+
+    @Override
+    public void onDeleted(EmployeeResponseDTO employee) {
+        indexes.forEach((field, index) -> {
+            final Key key = Key.of(field, employee);
+            if (key != null) {
+                index.remove(key);
+            }
+        });
+    }
+
+    private static Map<Field, ConcurrentSkipListMap<Key, EmployeeResponseDTO>> build(
+            List<EmployeeResponseDTO> employees) {
+        final Map<Field, ConcurrentSkipListMap<Key, EmployeeResponseDTO>> built = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            final ConcurrentSkipListMap<Key, EmployeeResponseDTO> index = new ConcurrentSkipListMap<>();
+            for (EmployeeResponseDTO employee : employees) {
+                final Key key = Key.of(field, employee);
+                if (key != null) {
+                    index.put(key, employee);
+                }
+            }
+            built.put(field, index);
+        }
+        return built;
+    }
+
+    /**
+     * Position of an employee in an index; ids break ties between equal values.
+     */
+    private record Key(int value, String id) implements Comparable<Key> {
+
+        static Key of(Field field, EmployeeResponseDTO employee) {
+            final Integer value = field.value.apply(employee);
+            return value == null ? null : new Key(value, Objects.toString(employee.getId(), ""));
+        }
+
+        static Key parse(String cursor) {
+            final int separator = cursor.indexOf(':');
+            try {
+                return new Key(Integer.parseInt(cursor.substring(0, separator)), cursor.substring(separator + 1));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new InvalidRequestException("Invalid cursor '" + cursor + "'");
+            }
+        }
+
+        String format() {
+            return value + ":" + id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            final int byValue = Integer.compare(value, other.value);
+            return byValue != 0 ? byValue : id.compareTo(other.id);
+        }
+    }
+}
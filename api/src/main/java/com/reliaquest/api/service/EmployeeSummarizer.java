@@ -0,0 +1,87 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.SummaryProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeSummaryDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes the count, highest salary, highest earners and name search hits that a dashboard would otherwise fetch with
+ * three separate calls, in a single pass over one {@link EmployeeDataset} snapshot. The highest earners are kept in a
+ * bounded heap, so a pass costs O(n log top) and no upstream call is made while the dataset is fresh;
+ * {@code employee.api.summary} times it.
+ */
+@Component
+public class EmployeeSummarizer {
+
+    private static final Comparator<EmployeeResponseDTO> HIGHEST_SALARY_FIRST = Comparator.comparing(
+                    EmployeeResponseDTO::getEmployee_salary, Comparator.<Integer>reverseOrder())
+            .thenComparing(EmployeeResponseDTO::getEmployee_name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final EmployeeDataset dataset;
+    private final SummaryProperties properties;
+    private final Timer summaries;
+
+    public EmployeeSummarizer(EmployeeDataset dataset, SummaryProperties properties, MeterRegistry meterRegistry) {
+        this.dataset = dataset;
+        this.properties = properties;
+        this.summaries = Timer.builder("employee.api.summary")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param top highest earners to list, or {@code null} for {@code defaultTop}; capped at {@code maxTop}
+     * @param search case-insensitive name fragment to search for, or {@code null} for no search
+     */
+    public EmployeeSummaryDTO summarize(Integer top, String search) {
+        final int bounded = Math.max(0, Math.min(top == null ? properties.defaultTop() : top, properties.maxTop()));
+        final String fragment = search == null || search.isBlank() ? null : search.toLowerCase(Locale.ROOT);
+        final EmployeeDataset.Snapshot snapshot = dataset.current();
+        final long start = System.nanoTime();
+        try {
+            // Worst of the kept earners at the head, so it is the one evicted by a higher salary.
+            final PriorityQueue<EmployeeResponseDTO> topEarners =
+                    new PriorityQueue<>(bounded + 1, HIGHEST_SALARY_FIRST.reversed());
+            final List<EmployeeResponseDTO> searchHits = fragment == null ? null : new ArrayList<>();
+            int highestSalary = 0;
+            for (EmployeeResponseDTO employee : snapshot.employees()) {
+                final Integer salary = employee.getEmployee_salary();
+                if (salary != null) {
+                    highestSalary = Math.max(highestSalary, salary);
+                    if (bounded > 0) {
+                        topEarners.add(employee);
+                        if (topEarners.size() > bounded) {
+                            topEarners.poll();
+                        }
+                    }
+                }
+                if (fragment != null
+                        && employee.getEmployee_name() != null
+                        && employee.getEmployee_name().toLowerCase(Locale.ROOT).contains(fragment)) {
+                    searchHits.add(employee);
+                }
+            }
+            return EmployeeSummaryDTO.builder()
+                    .count(snapshot.employees().size())
+                    .highestSalary(highestSalary)
+                    .topEarnerNames(topEarners.stream()
+                            .sorted(HIGHEST_SALARY_FIRST)
+                            .map(EmployeeResponseDTO::getEmployee_name)
+                            .toList())
+                    .searchHits(searchHits)
+                    .datasetVersion(snapshot.version())
+                    .build();
+        } finally {
+            summaries.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
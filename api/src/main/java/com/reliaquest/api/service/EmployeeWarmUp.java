@@ -0,0 +1,128 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.WarmUpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the employee dataset, and with it every index built on it, before the instance takes traffic, so its first
+ * requests are not a stampede on the upstream. Failed loads are retried with jittered, doubling backoff.
+ *
+ * <p>Spring Boot reports readiness only once application runners have returned, so the instance stays
+ * {@code REFUSING_TRAFFIC} until warm-up finishes or {@code timeout} passes; in the latter case loading carries on in
+ * the background until the same deadline. Warm-up time is recorded by the {@code employee.api.warm_up} timer, tagged
+ * with whether it finished.
+ */
+@Slf4j
+@Component
+public class EmployeeWarmUp implements ApplicationRunner {
+
+    private final EmployeeDataset dataset;
+    private final EmployeeCache cache;
+    private final WarmUpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public EmployeeWarmUp(
+            EmployeeDataset dataset, EmployeeCache cache, WarmUpProperties properties, MeterRegistry meterRegistry) {
+        this.dataset = dataset;
+        this.cache = cache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.enabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Warms up, waiting at most {@code timeout}.
+     *
+     * @return whether warm-up finished in time
+     */
+    public boolean warmUp() {
+        final long start = System.nanoTime();
+        final long deadline = start + properties.timeout().toNanos();
+        final CompletableFuture<Boolean> loading = CompletableFuture.supplyAsync(() -> load(deadline), task -> {
+            final Thread thread = new Thread(task, "employee-warm-up");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        boolean warmed;
+        try {
+            warmed = loading.get(properties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            warmed = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            warmed = false;
+        }
+        final long elapsed = System.nanoTime() - start;
+        Timer.builder("employee.api.warm_up")
+                .tag("outcome", warmed ? "warmed" : "timed_out")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (warmed) {
+            log.info("Warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } else {
+            log.warn("Warm-up did not finish within {}, reporting ready anyway", properties.timeout());
+        }
+        return warmed;
+    }
+
+    private boolean load(long deadline) {
+        Duration backoff = properties.initialBackoff();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final EmployeeDataset.Snapshot snapshot = dataset.refresh();
+                if (properties.primeCache()) {
+                    snapshot.employees().forEach(cache::put);
+                }
+                log.debug("Warm-up loaded {} employees on attempt {}", snapshot.employees().size(), attempt);
+                return true;
+            } catch (RuntimeException e) {
+                final long pauseNanos = jittered(backoff).toNanos();
+                if (System.nanoTime() + pauseNanos - deadline >= 0) {
+                    log.warn("Warm-up attempt {} failed, giving up: {}", attempt, e.getMessage());
+                    return false;
+                }
+                log.info(
+                        "Warm-up attempt {} failed, retrying in {} ms: {}",
+                        attempt,
+                        TimeUnit.NANOSECONDS.toMillis(pauseNanos),
+                        e.getMessage());
+                try {
+                    TimeUnit.NANOSECONDS.sleep(pauseNanos);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoff = min(backoff.multipliedBy(2), properties.maxBackoff());
+            }
+        }
+    }
+
+    /**
+     * Spreads retries of instances that started together over the second half of the backoff.
+     */
+    private static Duration jittered(Duration backoff) {
+        final long nanos = backoff.toNanos();
+        return Duration.ofNanos(nanos / 2 + ThreadLocalRandom.current().nextLong(nanos / 2 + 1));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
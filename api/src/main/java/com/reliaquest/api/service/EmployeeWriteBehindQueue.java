@@ -0,0 +1,180 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.WriteBehindProperties;
+import com.reliaquest.api.dto.CreateTicketDTO;
+import com.reliaquest.api.dto.EmployeeInputDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accepts employee creates without waiting for the upstream. Creates wait in a bounded queue and a single drainer
+ * thread writes them upstream in batches; when the upstream refuses a write the drainer backs off, doubling the pause
+ * up to {@code maxBackoff}, and resumes with the same create so ordering is preserved. Callers poll the returned
+ * ticket.
+ */
+@Slf4j
+@Component
+public class EmployeeWriteBehindQueue {
+
+    private final MockEmployeeApiService employeeService;
+    private final WriteBehindProperties properties;
+    private final BlockingQueue<PendingCreate> queue;
+    private final Map<String, CreateTicketDTO> tickets = new ConcurrentHashMap<>();
+    private final Thread drainer;
+
+    public EmployeeWriteBehindQueue(
+            MockEmployeeApiService employeeService, WriteBehindProperties properties, MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+        this.drainer = new Thread(this::drain, "employee-write-behind");
+        this.drainer.setDaemon(true);
+        Gauge.builder("employee.api.write_behind.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        drainer.interrupt();
+    }
+
+    public CreateTicketDTO submit(EmployeeInputDTO employee) {
+        final var ticket = CreateTicketDTO.builder()
+                .token(UUID.randomUUID().toString())
+                .status(CreateTicketDTO.Status.QUEUED)
+                .submittedAt(Instant.now())
+                .build();
+        tickets.put(ticket.getToken(), ticket);
+        if (!queue.offer(new PendingCreate(ticket.getToken(), employee))) {
+            tickets.remove(ticket.getToken());
+            throw new WriteQueueFullException("Create queue is full, retry later");
+        }
+        log.info("Queued create of employee '{}' as {}", employee.getName(), ticket.getToken());
+        return ticket;
+    }
+
+    public Optional<CreateTicketDTO> getTicket(String token) {
+        return Optional.ofNullable(tickets.get(token));
+    }
+
+    private void drain() {
+        final Deque<PendingCreate> batch = new ArrayDeque<>(properties.batchSize());
+        final List<PendingCreate> taken = new ArrayList<>(properties.batchSize());
+        Duration backoff = properties.initialBackoff();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (batch.isEmpty()) {
+                    batch.add(queue.take());
+                    queue.drainTo(taken, properties.batchSize() - 1);
+                    batch.addAll(taken);
+                    taken.clear();
+                    evictExpiredTickets();
+                }
+                if (writeBatch(batch)) {
+                    backoff = properties.initialBackoff();
+                } else {
+                    log.warn("Upstream refused writes, {} creates pending; backing off {}", pending(batch), backoff);
+                    Thread.sleep(backoff.toMillis());
+                    backoff = min(backoff.multipliedBy(2), properties.maxBackoff());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Write-behind drainer stopped with {} creates pending", pending(batch));
+    }
+
+    /**
+     * Writes the batch front to back, stopping at the first create the upstream refuses.
+     *
+     * @return {@code false} if the upstream refused a write and the batch should be retried after a backoff
+     */
+    private boolean writeBatch(Deque<PendingCreate> batch) {
+        while (!batch.isEmpty()) {
+            final PendingCreate next = batch.peekFirst();
+            update(next.token, ticket -> withStatus(ticket, CreateTicketDTO.Status.IN_PROGRESS));
+            try {
+                // The ticket token doubles as the idempotency key, so a create retried after a lost response is not
+                // applied twice.
+                final EmployeeResponseDTO created = employeeService.createEmployee(next.employee, next.token);
+                complete(next.token, CreateTicketDTO.Status.CREATED, created, null);
+            } catch (ServiceUnavailableException e) {
+                if (++next.attempts < properties.maxAttempts()) {
+                    update(next.token, ticket -> withStatus(ticket, CreateTicketDTO.Status.QUEUED));
+                    return false;
+                }
+                complete(next.token, CreateTicketDTO.Status.FAILED, null, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Failed to create employee '{}': {}", next.employee.getName(), e.getMessage());
+                complete(next.token, CreateTicketDTO.Status.FAILED, null, e.getMessage());
+            }
+            batch.pollFirst();
+        }
+        return true;
+    }
+
+    private void complete(String token, CreateTicketDTO.Status status, EmployeeResponseDTO employee, String error) {
+        update(token, ticket -> ticket.toBuilder()
+                .status(status)
+                .employee(employee)
+                .error(error)
+                .completedAt(Instant.now())
+                .build());
+    }
+
+    private static CreateTicketDTO withStatus(CreateTicketDTO ticket, CreateTicketDTO.Status status) {
+        return ticket.toBuilder().status(status).build();
+    }
+
+    private void update(String token, UnaryOperator<CreateTicketDTO> change) {
+        tickets.computeIfPresent(token, (key, ticket) -> change.apply(ticket));
+    }
+
+    private void evictExpiredTickets() {
+        final Instant cutoff = Instant.now().minus(properties.retention());
+        tickets.values()
+                .removeIf(ticket -> ticket.getCompletedAt() != null
+                        && ticket.getCompletedAt().isBefore(cutoff));
+    }
+
+    private int pending(Deque<PendingCreate> batch) {
+        return batch.size() + queue.size();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    @RequiredArgsConstructor
+    private static final class PendingCreate {
+
+        private final String token;
+        private final EmployeeInputDTO employee;
+        private int attempts;
+    }
+}
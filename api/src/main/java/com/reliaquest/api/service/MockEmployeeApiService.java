@@ -5,76 +5,209 @@ import com.reliaquest.api.dto.EmployeeListResponseWrapper;
 import com.reliaquest.api.dto.EmployeeResponseWrapper;
 import com.reliaquest.api.exception.ServiceUnavailableException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
-import org.springframework.retry.annotation.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.*;
 
+/**
+ * Client for the mock employee API, which may be spread over several {@link UpstreamShards}. Creates and deletes go to
+ * the shard owning the employee's name; lists, searches and statistics are gathered from every shard in parallel and
+ * merged. Lookups by id go to the shard the id was last seen on, falling back to asking every shard. Creates carry an
+ * {@value #IDEMPOTENCY_KEY} header, so they can be retried even when the response to an attempt was lost.
+ */
 @Service
 @Slf4j
-@EnableRetry
 public class MockEmployeeApiService {
 
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private static final int MAX_TRACKED_IDS = 100_000;
+
     private final RestTemplate restTemplate;
-    private final String baseUrl;
+    private final UpstreamShards shards;
+    private final RequestHedger hedger;
+    private final UpstreamRetrier retrier;
+    private final EmployeeCache employeeCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Integer> shardById = new ConcurrentHashMap<>();
 
-    public MockEmployeeApiService(@Value("${mock.api.base-url}") String baseUrl) {
-        this.restTemplate = new RestTemplate();
-        this.baseUrl = baseUrl;
+    public MockEmployeeApiService(
+            RestTemplate restTemplate,
+            UpstreamShards shards,
+            RequestHedger hedger,
+            UpstreamRetrier retrier,
+            EmployeeCache employeeCache,
+            ApplicationEventPublisher eventPublisher) {
+        this.restTemplate = restTemplate;
+        this.shards = shards;
+        this.hedger = hedger;
+        this.retrier = retrier;
+        this.employeeCache = employeeCache;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Retryable(
-            value = {HttpServerErrorException.class, HttpClientErrorException.TooManyRequests.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
     public List<EmployeeResponseDTO> getAllEmployees() {
         log.info("Fetching all employees from mock API...");
-        ResponseEntity<EmployeeListResponseWrapper> response =
-                restTemplate.getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class);
-        return response.getBody().getData();
+        return concat(shards.scatter(shard -> remember(
+                shard,
+                retrier.execute(
+                        "getAllEmployees",
+                        () -> hedger.execute(
+                                        "getAllEmployees",
+                                        () -> restTemplate.getForEntity(
+                                                shards.baseUrl(shard) + "/employee",
+                                                EmployeeListResponseWrapper.class))
+                                .getBody()
+                                .getData(),
+                        this::recoverFromGetAllEmployees))));
+    }
+
+    public List<EmployeeResponseDTO> searchEmployeesByName(String nameFragment) {
+        log.info("Searching employees by name fragment '{}' in mock API...", nameFragment);
+        return concat(shards.scatter(shard -> remember(
+                shard,
+                retrier.execute(
+                        "searchEmployeesByName",
+                        () -> hedger.execute(
+                                        "searchEmployeesByName",
+                                        () -> restTemplate.getForEntity(
+                                                shards.baseUrl(shard) + "/employee?nameContains={nameFragment}",
+                                                EmployeeListResponseWrapper.class,
+                                                nameFragment))
+                                .getBody()
+                                .getData(),
+                        failure -> recoverFromSearchEmployeesByName(failure, nameFragment)))));
+    }
+
+    public EmployeeStatsDTO getEmployeeStats() {
+        log.info("Fetching employee statistics from mock API...");
+        return mergeStats(shards.scatter(shard -> retrier.execute(
+                "getEmployeeStats",
+                () -> hedger.execute(
+                                "getEmployeeStats",
+                                () -> restTemplate.getForEntity(
+                                        shards.baseUrl(shard) + "/employee/stats", EmployeeStatsResponseWrapper.class))
+                        .getBody()
+                        .getData(),
+                this::recoverFromGetEmployeeStats)));
     }
 
-    @Retryable(
-            value = {HttpServerErrorException.class, HttpClientErrorException.TooManyRequests.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
     public EmployeeResponseDTO getEmployeeById(String id) {
+        return employeeCache.get(id, this::fetchEmployeeById);
+    }
+
+    private EmployeeResponseDTO fetchEmployeeById(String id) {
+        final Integer known = shardById.get(id);
+        if (known != null) {
+            final EmployeeResponseDTO found = fetchEmployeeById(id, known);
+            if (found != null) {
+                return found;
+            }
+            shardById.remove(id, known);
+        }
+        final List<EmployeeResponseDTO> found =
+                shards.scatter(shard -> known != null && shard == known ? null : fetchEmployeeById(id, shard));
+        for (int shard = 0; shard < found.size(); shard++) {
+            if (found.get(shard) != null) {
+                return remember(shard, found.get(shard));
+            }
+        }
+        log.warn("Employee ID {} not found in mock API", id);
+        return null;
+    }
+
+    private EmployeeResponseDTO fetchEmployeeById(String id, int shard) {
         log.info("Fetching employee by ID: {}", id);
         try {
-            ResponseEntity<EmployeeResponseWrapper> response =
-                    restTemplate.getForEntity(baseUrl + "/employee/" + id, EmployeeResponseWrapper.class);
-            return response.getBody().getData();
+            return retrier.execute(
+                    "getEmployeeById",
+                    () -> hedger.execute(
+                                    "getEmployeeById",
+                                    () -> restTemplate.getForEntity(
+                                            shards.baseUrl(shard) + "/employee/" + id, EmployeeResponseWrapper.class))
+                            .getBody()
+                            .getData(),
+                    failure -> recoverFromGetEmployeeById(failure, id));
         } catch (HttpClientErrorException.NotFound e) {
-            log.warn("Employee ID {} not found in mock API", id);
             return null;
         }
     }
 
-    @Retryable(
-            value = {HttpServerErrorException.class, HttpClientErrorException.TooManyRequests.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
     public EmployeeResponseDTO createEmployee(EmployeeInputDTO employee) {
+        return createEmployee(employee, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Creates the employee, sending {@code idempotencyKey} with every attempt so the upstream creates it at most once
+     * however often the create is retried; callers retrying a create themselves should pass the same key each time.
+     */
+    public EmployeeResponseDTO createEmployee(EmployeeInputDTO employee, String idempotencyKey) {
         log.info("Creating employee: {}", employee.getName());
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(IDEMPOTENCY_KEY, idempotencyKey);
         HttpEntity<EmployeeInputDTO> request = new HttpEntity<>(employee, headers);
 
-        ResponseEntity<EmployeeResponseWrapper> response =
-                restTemplate.postForEntity(baseUrl + "/employee", request, EmployeeResponseWrapper.class);
-        return response.getBody().getData();
+        int shard = shards.ownerOf(employee.getName() == null ? "" : employee.getName());
+        EmployeeResponseDTO created = retrier.executeIdempotent(
+                "createEmployee",
+                () -> {
+                    EmployeeResponseWrapper response = restTemplate
+                            .postForEntity(shards.baseUrl(shard) + "/employee", request, EmployeeResponseWrapper.class)
+                            .getBody();
+                    // A connection dropped mid-body reads as an empty one, after the upstream may have created.
+                    if (response == null || response.getData() == null) {
+                        throw new ResourceAccessException("Response to create was lost");
+                    }
+                    return response.getData();
+                },
+                failure -> recoverFromCreateEmployee(failure, employee));
+        remember(shard, created);
+        employeeCache.put(created);
+        eventPublisher.publishEvent(new EmployeeCreatedEvent(created));
+        return created;
     }
 
-    @Retryable(
-            value = {HttpServerErrorException.class, HttpClientErrorException.TooManyRequests.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+    /**
+     * Deletes the first employee named {@code name} from the shard owning the name, or, if it has none, from the first
+     * other shard that does; employees seeded by the upstream need not live on their owning shard.
+     */
     public boolean deleteEmployeeByName(String name) {
         log.info("Deleting employee by name: {}", name);
+        final int owner = shards.ownerOf(name);
+        for (int i = 0; i < shards.size(); i++) {
+            if (deleteEmployeeByName(name, (owner + i) % shards.size())) {
+                return deleted(name);
+            }
+        }
+        log.warn("Employee name {} not found for deletion", name);
+        return false;
+    }
 
+    /**
+     * Deletes {@code employee}, as found by {@link #getEmployeeById}, from the shard its id was found on, so a namesake
+     * on another shard is left alone. Falls back to {@link #deleteEmployeeByName(String)} when that shard is unknown.
+     */
+    public boolean deleteEmployee(EmployeeResponseDTO employee) {
+        final String name = employee.getEmployee_name();
+        final Integer known = shards.size() == 1 ? Integer.valueOf(0) : shardById.get(employee.getId());
+        if (known == null) {
+            return deleteEmployeeByName(name);
+        }
+        log.info("Deleting employee {} by name: {}", employee.getId(), name);
+        if (!deleteEmployeeByName(name, known)) {
+            log.warn("Employee name {} not found for deletion", name);
+            return false;
+        }
+        return deleted(name);
+    }
+
+    private boolean deleteEmployeeByName(String name, int shard) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -84,33 +217,119 @@ public class MockEmployeeApiService {
         HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
 
         try {
-            restTemplate.exchange(baseUrl + "/employee", HttpMethod.DELETE, request, Void.class);
-            return true;
+            // The upstream answers 200 with data false when no employee has the name.
+            return retrier.execute(
+                    "deleteEmployeeByName",
+                    () -> {
+                        final EmployeeDeleteResponseWrapper response = restTemplate
+                                .exchange(
+                                        shards.baseUrl(shard) + "/employee",
+                                        HttpMethod.DELETE,
+                                        request,
+                                        EmployeeDeleteResponseWrapper.class)
+                                .getBody();
+                        return response != null && Boolean.TRUE.equals(response.getData());
+                    },
+                    failure -> recoverFromDeleteEmployeeByName(failure, name));
         } catch (HttpClientErrorException.NotFound e) {
-            log.warn("Employee name {} not found for deletion", name);
             return false;
         }
     }
 
-    @Recover
+    private boolean deleted(String name) {
+        employeeCache.invalidateByName(name);
+        eventPublisher.publishEvent(new EmployeeDeletedEvent(name));
+        return true;
+    }
+
+    private <T> T remember(int shard, T result) {
+        if (shards.size() == 1) {
+            return result;
+        }
+        if (shardById.size() >= MAX_TRACKED_IDS) {
+            shardById.clear();
+        }
+        if (result instanceof EmployeeResponseDTO employee && employee.getId() != null) {
+            shardById.put(employee.getId(), shard);
+        } else if (result instanceof List<?> employees) {
+            employees.forEach(employee -> remember(shard, employee));
+        }
+        return result;
+    }
+
+    private static List<EmployeeResponseDTO> concat(List<List<EmployeeResponseDTO>> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        final List<EmployeeResponseDTO> all = new ArrayList<>();
+        parts.forEach(part -> {
+            if (part != null) {
+                all.addAll(part);
+            }
+        });
+        return all;
+    }
+
+    /**
+     * Combines per-shard statistics. Each shard's top earners are its {@code k} highest, so the {@code k} highest
+     * overall are among them.
+     */
+    private static EmployeeStatsDTO mergeStats(List<EmployeeStatsDTO> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        final EmployeeStatsDTO merged = new EmployeeStatsDTO();
+        final List<EmployeeResponseDTO> topEarners = new ArrayList<>();
+        int topK = 0;
+        for (EmployeeStatsDTO part : parts) {
+            if (part == null) {
+                continue;
+            }
+            merged.setCount(merged.getCount() + part.getCount());
+            merged.setTotalSalary(merged.getTotalSalary() + part.getTotalSalary());
+            merged.setMinSalary(extreme(merged.getMinSalary(), part.getMinSalary(), Math::min));
+            merged.setMaxSalary(extreme(merged.getMaxSalary(), part.getMaxSalary(), Math::max));
+            if (part.getTopEarners() != null) {
+                topEarners.addAll(part.getTopEarners());
+                topK = Math.max(topK, part.getTopEarners().size());
+            }
+        }
+        topEarners.sort(Comparator.comparing(
+                        EmployeeResponseDTO::getEmployee_salary, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(EmployeeResponseDTO::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        merged.setTopEarners(new ArrayList<>(topEarners.subList(0, topK)));
+        return merged;
+    }
+
+    private static Integer extreme(Integer a, Integer b, BinaryOperator<Integer> pick) {
+        return a == null ? b : b == null ? a : pick.apply(a, b);
+    }
+
     public List<EmployeeResponseDTO> recoverFromGetAllEmployees(Throwable ex) {
         log.error("All retries failed for getAllEmployees: {}", ex.getMessage());
         throw new ServiceUnavailableException("Service is unavailable after multiple attempts", ex);
     }
 
-    @Recover
+    public List<EmployeeResponseDTO> recoverFromSearchEmployeesByName(Throwable ex, String nameFragment) {
+        log.error("All retries failed for searchEmployeesByName('{}'): {}", nameFragment, ex.getMessage());
+        throw new ServiceUnavailableException("Service is unavailable after multiple attempts", ex);
+    }
+
+    public EmployeeStatsDTO recoverFromGetEmployeeStats(Throwable ex) {
+        log.error("All retries failed for getEmployeeStats: {}", ex.getMessage());
+        throw new ServiceUnavailableException("Service is unavailable after multiple attempts", ex);
+    }
+
     public EmployeeResponseDTO recoverFromCreateEmployee(Throwable ex, EmployeeInputDTO employee) {
         log.error("All retries failed while creating employee '{}': {}", employee.getName(), ex.getMessage());
         throw new ServiceUnavailableException("Failed to create employee after multiple attempts", ex);
     }
 
-    @Recover
     public EmployeeResponseDTO recoverFromGetEmployeeById(Throwable ex, String id) {
         log.error("All retries failed for getEmployeeById({}): {}", id, ex.getMessage());
         throw new ServiceUnavailableException("Service is unavailable after multiple attempts", ex);
     }
 
-    @Recover
     public boolean recoverFromDeleteEmployeeByName(Throwable ex, String name) {
         log.error("All retries failed for deleteEmployeeByName('{}'): {}", name, ex.getMessage());
         throw new ServiceUnavailableException("Service is unavailable after multiple attempts", ex);
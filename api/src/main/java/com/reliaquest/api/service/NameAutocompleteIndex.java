@@ -0,0 +1,96 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.AutocompleteProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Name completions served from a {@link NameTrie} kept in step with the {@link EmployeeDataset}: rebuilt aside and
+ * swapped in on every fetch, and updated in place on each create and delete. A lookup walks at most the prefix and the
+ * completions it returns, so its cost does not grow with the number of employees; {@code employee.api.autocomplete}
+ * times it.
+ */
+@Component
+public class NameAutocompleteIndex implements EmployeeDataset.Listener {
+
+    public enum Ranking {
+        NAME,
+        SALARY
+    }
+
+    private final EmployeeDataset dataset;
+    private final AutocompleteProperties properties;
+    private NameTrie trie;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer lookups;
+
+    public NameAutocompleteIndex(
+            EmployeeDataset dataset, AutocompleteProperties properties, MeterRegistry meterRegistry) {
+        this.dataset = dataset;
+        this.properties = properties;
+        this.trie = new NameTrie(properties.maxLimit());
+        this.lookups = Timer.builder("employee.api.autocomplete")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        dataset.addListener(this);
+    }
+
+    /**
+     * Returns up to {@code limit} (capped at {@code maxLimit}) distinct employee names completing {@code prefix}.
+     *
+     * @param limit completions wanted, or {@code null} for {@code defaultLimit}
+     */
+    public List<String> complete(String prefix, Integer limit, Ranking ranking) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        final int bounded = Math.min(limit == null ? properties.defaultLimit() : limit, properties.maxLimit());
+        dataset.current();
+        final long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return trie.complete(prefix.stripLeading(), bounded, ranking == Ranking.SALARY);
+        } finally {
+            lock.readLock().unlock();
+            lookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onSnapshot(List<EmployeeResponseDTO> employees) {
+        final NameTrie rebuilt = new NameTrie(properties.maxLimit());
+        employees.forEach(rebuilt::add);
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCreated(EmployeeResponseDTO employee) {
+        lock.writeLock().lock();
+        try {
+            trie.add(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(EmployeeResponseDTO employee) {
+        lock.writeLock().lock();
+        try {
+            trie.remove(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
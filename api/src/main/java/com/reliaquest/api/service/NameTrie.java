@@ -0,0 +1,260 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compressed (radix) trie over lowercased employee names. Every word of a name starts a key running to the end of the
+ * name, so "Tiger Nixon" completes both "tig" and "nix". Children are kept in character order, so a depth-first walk
+ * yields completions alphabetically and stops once it has enough.
+ *
+ * <p>Each node also caches the {@code topK} highest earners in its subtree, so completions ranked by salary are read
+ * straight off the node the prefix ends at. Inserts push the employee into the caches along their path; removals
+ * rebuild the caches along their path from the children's. Not thread-safe.
+ */
+final class NameTrie {
+
+    static final Comparator<EmployeeResponseDTO> BY_SALARY = Comparator.comparingInt(NameTrie::salary)
+            .reversed()
+            .thenComparing(NameTrie::name)
+            .thenComparing(employee -> Objects.toString(employee.getId(), ""));
+
+    private final int topK;
+    private final Node root = new Node("");
+    private int size;
+
+    NameTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /** Number of employees indexed. */
+    int size() {
+        return size;
+    }
+
+    void add(EmployeeResponseDTO employee) {
+        final List<String> keys = keys(employee);
+        keys.forEach(key -> insert(key, employee));
+        if (!keys.isEmpty()) {
+            size++;
+        }
+    }
+
+    void remove(EmployeeResponseDTO employee) {
+        boolean removed = false;
+        for (String key : keys(employee)) {
+            removed |= delete(key, employee);
+        }
+        if (removed) {
+            size--;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct names completing {@code prefix}, alphabetically by the matching word or by
+     * salary, highest first. Salary ranking returns at most {@code topK} names.
+     */
+    List<String> complete(String prefix, int limit, boolean bySalary) {
+        final Node node = find(prefix.toLowerCase(Locale.ROOT));
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        final Set<String> names = new LinkedHashSet<>();
+        if (bySalary) {
+            for (EmployeeResponseDTO employee : node.top) {
+                if (names.size() == limit) {
+                    break;
+                }
+                names.add(name(employee));
+            }
+        } else {
+            collectAlphabetically(node, names, limit);
+        }
+        return List.copyOf(names);
+    }
+
+    private static void collectAlphabetically(Node start, Set<String> names, int limit) {
+        final Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty() && names.size() < limit) {
+            final Node node = stack.pop();
+            for (Iterator<EmployeeResponseDTO> it = node.terminals.iterator(); it.hasNext() && names.size() < limit; ) {
+                names.add(name(it.next()));
+            }
+            node.children.descendingMap().values().forEach(stack::push);
+        }
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            final Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            final int matched = Math.min(child.edge.length(), prefix.length() - i);
+            if (!prefix.regionMatches(i, child.edge, 0, matched)) {
+                return null;
+            }
+            i += matched;
+            node = child;
+        }
+        return node;
+    }
+
+    private void insert(String key, EmployeeResponseDTO employee) {
+        final List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            final Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                final Node leaf = new Node(key.substring(i));
+                node.children.put(key.charAt(i), leaf);
+                node = leaf;
+                path.add(node);
+                i = key.length();
+                break;
+            }
+            final int common = commonPrefix(child.edge, key, i);
+            if (common < child.edge.length()) {
+                final Node split = new Node(child.edge.substring(0, common));
+                child.edge = child.edge.substring(common);
+                split.children.put(child.edge.charAt(0), child);
+                split.top = new ArrayList<>(child.top);
+                node.children.put(split.edge.charAt(0), split);
+                node = split;
+            } else {
+                node = child;
+            }
+            path.add(node);
+            i += common;
+        }
+        node.terminals.add(employee);
+        for (Node onPath : path) {
+            offer(onPath.top, employee);
+        }
+    }
+
+    private boolean delete(String key, EmployeeResponseDTO employee) {
+        final List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.children.get(key.charAt(i));
+            if (node == null || !key.startsWith(node.edge, i)) {
+                return false;
+            }
+            path.add(node);
+            i += node.edge.length();
+        }
+        if (!node.terminals.removeIf(candidate -> sameEmployee(candidate, employee))) {
+            return false;
+        }
+        for (int j = path.size() - 1; j > 0; j--) {
+            prune(path.get(j - 1), path.get(j));
+        }
+        for (int j = path.size() - 1; j >= 0; j--) {
+            rebuildTop(path.get(j));
+        }
+        return true;
+    }
+
+    /** Drops {@code node} if it is empty, or folds it into its only child if it has no terminals of its own. */
+    private static void prune(Node parent, Node node) {
+        if (!node.terminals.isEmpty() || parent.children.get(node.edge.charAt(0)) != node) {
+            return;
+        }
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.edge.charAt(0));
+        } else if (node.children.size() == 1) {
+            final Node child = node.children.firstEntry().getValue();
+            child.edge = node.edge + child.edge;
+            parent.children.put(child.edge.charAt(0), child);
+        }
+    }
+
+    private void rebuildTop(Node node) {
+        final List<EmployeeResponseDTO> top = new ArrayList<>(topK);
+        node.terminals.forEach(employee -> offer(top, employee));
+        node.children.values().forEach(child -> child.top.forEach(employee -> offer(top, employee)));
+        node.top = top;
+    }
+
+    /** Inserts {@code employee} into the sorted, bounded, duplicate-free list {@code top}. */
+    private void offer(List<EmployeeResponseDTO> top, EmployeeResponseDTO employee) {
+        for (EmployeeResponseDTO present : top) {
+            if (sameEmployee(present, employee)) {
+                return;
+            }
+        }
+        int at = top.size();
+        while (at > 0 && BY_SALARY.compare(employee, top.get(at - 1)) < 0) {
+            at--;
+        }
+        if (at < topK) {
+            top.add(at, employee);
+            if (top.size() > topK) {
+                top.remove(topK);
+            }
+        }
+    }
+
+    private static List<String> keys(EmployeeResponseDTO employee) {
+        final String name = name(employee).toLowerCase(Locale.ROOT).strip();
+        final List<String> keys = new ArrayList<>(2);
+        for (int i = 0; i < name.length(); i++) {
+            if (!Character.isWhitespace(name.charAt(i)) && (i == 0 || Character.isWhitespace(name.charAt(i - 1)))) {
+                keys.add(name.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static int commonPrefix(String edge, String key, int from) {
+        int common = 0;
+        while (common < edge.length()
+                && from + common < key.length()
+                && edge.charAt(common) == key.charAt(from + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static boolean sameEmployee(EmployeeResponseDTO a, EmployeeResponseDTO b) {
+        return a == b || (a.getId() != null && a.getId().equals(b.getId()));
+    }
+
+    private static int salary(EmployeeResponseDTO employee) {
+        return employee.getEmployee_salary() == null ? 0 : employee.getEmployee_salary();
+    }
+
+    private static String name(EmployeeResponseDTO employee) {
+        return Objects.toString(employee.getEmployee_name(), "");
+    }
+
+    private static final class Node {
+
+        private String edge;
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final List<EmployeeResponseDTO> terminals = new ArrayList<>(1);
+        private List<EmployeeResponseDTO> top = new ArrayList<>();
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+    }
+}
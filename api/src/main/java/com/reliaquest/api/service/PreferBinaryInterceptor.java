@@ -0,0 +1,31 @@
+package com.reliaquest.api.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Asks the upstream for Smile-encoded bodies whenever the response can be read as Smile, keeping JSON as an acceptable
+ * fallback for upstreams that do not offer it.
+ */
+public class PreferBinaryInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final List<MediaType> PREFERRED =
+            List.of(APPLICATION_SMILE, new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.5")));
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (request.getHeaders().getAccept().stream().anyMatch(APPLICATION_SMILE::isCompatibleWith)) {
+            request.getHeaders().setAccept(PREFERRED);
+        }
+        return execution.execute(request, body);
+    }
+}
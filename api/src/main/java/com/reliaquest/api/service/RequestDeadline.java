@@ -0,0 +1,98 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time by which the client request being served must be answered. It is set at the edge for the request
+ * thread and carried to the threads that call the upstream on its behalf; upstream timeouts, waits for parallel calls
+ * and retry decisions are bounded by what is left, so work for a client that has given up stops promptly.
+ *
+ * <p>Threads without a deadline, such as background writers and warm-up, are not bounded.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * @return the deadline of the current thread, or {@code null} if it has none
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the time left before the current thread's deadline, at least zero, or {@link Long#MAX_VALUE} if it has
+     *     none
+     */
+    public static long remainingNanos() {
+        final RequestDeadline deadline = CURRENT.get();
+        return deadline == null ? Long.MAX_VALUE : Math.max(0, deadline.expiresAtNanos - System.nanoTime());
+    }
+
+    public static long remainingMillis() {
+        final long remaining = remainingNanos();
+        return remaining == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(remaining);
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() == 0;
+    }
+
+    /**
+     * @throws DeadlineExceededException if the current thread's deadline has passed
+     */
+    public static void checkRemaining(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Deadline passed before " + operation + " could complete");
+        }
+    }
+
+    /**
+     * Makes this the current thread's deadline until the returned scope is closed.
+     */
+    public Scope attach() {
+        final RequestDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps {@code task} to run under the current thread's deadline, whichever thread runs it.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        final RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = deadline.attach()) {
+                return task.call();
+            }
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
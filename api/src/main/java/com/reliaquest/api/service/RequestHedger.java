@@ -0,0 +1,268 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Hedges idempotent upstream reads: if an attempt has not answered within the configured percentile of recently
+ * observed attempt latencies, a second attempt is sent and whichever succeeds first wins.
+ *
+ * <p>Hedges are paid for from a budget that every read tops up by {@code budgetRatio}, and are suspended for
+ * {@code throttleCooldown} after the upstream answers 429, so hedging never multiplies load while we are rate limited.
+ * The {@code employee.api.upstream.attempt} timer records single attempts and {@code employee.api.upstream.read}
+ * records hedged reads end to end; comparing their p99 shows what hedging buys. Attempts run in the caller's trace
+ * and under its {@link RequestDeadline}, and are abandoned when it passes.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    private static final int LATENCY_WINDOW_SIZE = 512;
+    private static final int MIN_LATENCY_SAMPLES = 32;
+    private static final int DELAY_REFRESH_INTERVAL = 16;
+    private static final long BUDGET_UNIT = 1000;
+    private static final long MAX_BUDGET = 10 * BUDGET_UNIT;
+
+    private final HedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final ThreadPoolExecutor executor;
+    private final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+    private final AtomicLong budget = new AtomicLong();
+    private final long budgetDeposit;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesSuppressed;
+
+    private volatile long hedgeDelayNanos;
+    private volatile long throttledUntilNanos = System.nanoTime();
+
+    public RequestHedger(HedgingProperties properties, MeterRegistry meterRegistry, Tracer tracer) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        this.executor = new ThreadPoolExecutor(
+                0, Math.max(2, properties.maxThreads()), 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "upstream-hedger");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.budgetDeposit = Math.round(properties.budgetRatio() * BUDGET_UNIT);
+        this.hedgeDelayNanos = Math.max(properties.initialDelay().toNanos(), properties.minDelay().toNanos());
+        this.hedgesSent = hedgeCounter("sent");
+        this.hedgesWon = hedgeCounter("won");
+        this.hedgesSuppressed = hedgeCounter("suppressed");
+    }
+
+    /**
+     * Runs {@code call}, hedging it when enabled. Exceptions thrown by the call are rethrown unwrapped so retry
+     * policies see the original upstream failure.
+     */
+    public <T> T execute(String operation, Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            if (!properties.enabled()) {
+                return attempt(operation, call);
+            }
+            deposit();
+            return hedged(operation, call);
+        } finally {
+            timer("employee.api.upstream.read", operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T hedged(String operation, Supplier<T> call) {
+        final CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        final List<Future<T>> inFlight = new ArrayList<>(2);
+        try {
+            inFlight.add(completion.submit(attemptTask(operation, call)));
+        } catch (RejectedExecutionException e) {
+            log.debug("Hedger saturated, running {} on the caller thread", operation);
+            return attempt(operation, call);
+        }
+
+        try {
+            Future<T> done = completion.poll(
+                    Math.min(hedgeDelayNanos, RequestDeadline.remainingNanos()), TimeUnit.NANOSECONDS);
+            if (done == null && !RequestDeadline.isExpired()) {
+                submitHedge(operation, call, completion, inFlight);
+            }
+            ExecutionException failure = null;
+            for (int pending = inFlight.size(); pending > 0; pending--) {
+                final Future<T> next =
+                        done != null ? done : completion.poll(RequestDeadline.remainingNanos(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    throw new DeadlineExceededException("Deadline passed while waiting for upstream " + operation);
+                }
+                done = null;
+                try {
+                    final T result = next.get();
+                    if (inFlight.size() > 1 && next == inFlight.get(1)) {
+                        hedgesWon.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            throw unwrap(failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for upstream " + operation);
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> void submitHedge(
+            String operation, Supplier<T> call, CompletionService<T> completion, List<Future<T>> inFlight) {
+        if (System.nanoTime() - throttledUntilNanos < 0 || !withdraw()) {
+            hedgesSuppressed.increment();
+            return;
+        }
+        try {
+            inFlight.add(completion.submit(attemptTask(operation, call)));
+            hedgesSent.increment();
+            final Span current = tracer.currentSpan();
+            if (current != null) {
+                current.event("hedge sent");
+            }
+            log.debug("Hedging {} after {} ms", operation, TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+        } catch (RejectedExecutionException e) {
+            hedgesSuppressed.increment();
+        }
+    }
+
+    private <T> Callable<T> attemptTask(String operation, Supplier<T> call) {
+        return tracer.currentTraceContext().wrap(RequestDeadline.wrap(() -> attempt(operation, call)));
+    }
+
+    private <T> T attempt(String operation, Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            final T result = call.get();
+            recordLatency(System.nanoTime() - start);
+            return result;
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            throttledUntilNanos = System.nanoTime() + properties.throttleCooldown().toNanos();
+            throw e;
+        } finally {
+            timer("employee.api.upstream.attempt", operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        final long samples = latencies.record(nanos);
+        if (samples >= MIN_LATENCY_SAMPLES && samples % DELAY_REFRESH_INTERVAL == 0) {
+            hedgeDelayNanos = Math.max(latencies.percentile(properties.percentile()), properties.minDelay().toNanos());
+        }
+    }
+
+    private void deposit() {
+        budget.getAndUpdate(current -> Math.min(MAX_BUDGET, current + budgetDeposit));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            final long current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Counter hedgeCounter(String outcome) {
+        return Counter.builder("employee.api.upstream.hedges")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ResourceAccessException(String.valueOf(cause));
+    }
+
+    /**
+     * @return calls currently running on the pool, for tests
+     */
+    int activeCalls() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Fixed-size ring of recent latencies. Writes race benignly; the percentile is an estimate either way.
+     */
+    static final class LatencyWindow {
+
+        private final long[] samples;
+        private final AtomicInteger count = new AtomicInteger();
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        long record(long nanos) {
+            final int index = count.getAndIncrement();
+            samples[Math.floorMod(index, samples.length)] = nanos;
+            return index + 1L;
+        }
+
+        long percentile(double percentile) {
+            final int size = (int) Math.min(Integer.toUnsignedLong(count.get()), samples.length);
+            if (size == 0) {
+                return 0;
+            }
+            final long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted[Math.min(size - 1, Math.max(0, (int) Math.ceil(percentile * size) - 1))];
+        }
+    }
+}
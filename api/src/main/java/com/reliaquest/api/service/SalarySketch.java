@@ -0,0 +1,91 @@
+package com.reliaquest.api.service;
+
+/**
+ * Fixed-size log-linear histogram of non-negative salaries, in the style of HdrHistogram. Values below 128 get a bucket
+ * each; above that every power of two is split into 64 buckets, so a percentile is off by at most 1/64 of the value.
+ * Unlike t-digest the buckets are plain counts, so values can be removed as well as added, and two sketches merge by
+ * adding their counts. Memory is fixed at 1,664 counters however many values are recorded. Not
+ * thread-safe.
+ */
+final class SalarySketch {
+
+    private static final int EXACT_LIMIT = 128;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_OCTAVE = Integer.numberOfTrailingZeros(EXACT_LIMIT);
+    static final int BUCKETS = EXACT_LIMIT + (Integer.SIZE - 1 - FIRST_OCTAVE) * SUB_BUCKETS;
+
+    private final int[] counts = new int[BUCKETS];
+    private long count;
+    private long sum;
+
+    void add(int salary) {
+        counts[bucket(salary)]++;
+        count++;
+        sum += Math.max(0, salary);
+    }
+
+    void remove(int salary) {
+        final int bucket = bucket(salary);
+        if (counts[bucket] > 0) {
+            counts[bucket]--;
+            count--;
+            sum -= Math.max(0, salary);
+        }
+    }
+
+    void merge(SalarySketch other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the smallest recorded value (as its bucket's midpoint) with at least {@code percentile} of all values at
+     * or below it, or 0 if the sketch is empty.
+     */
+    int percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return midpoint(i);
+            }
+        }
+        return midpoint(BUCKETS - 1);
+    }
+
+    static int bucket(int value) {
+        if (value < EXACT_LIMIT) {
+            return Math.max(0, value);
+        }
+        final int octave = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value);
+        final int subBucket = (value >>> (octave - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT_LIMIT + (octave - FIRST_OCTAVE) * SUB_BUCKETS + subBucket;
+    }
+
+    static int midpoint(int bucket) {
+        if (bucket < EXACT_LIMIT) {
+            return bucket;
+        }
+        final int octave = FIRST_OCTAVE + (bucket - EXACT_LIMIT) / SUB_BUCKETS;
+        final int subBucket = (bucket - EXACT_LIMIT) % SUB_BUCKETS;
+        final int shift = octave - SUB_BUCKET_BITS;
+        final long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return (int) Math.min(Integer.MAX_VALUE, lower + ((1L << shift) >>> 1));
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.TitleSalaryStatsDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary distribution per employee title, kept in step with the {@link EmployeeDataset}: a {@link SalarySketch} per
+ * title is rebuilt on every fetch and adjusted on each create and delete. A query reads each title's sketch once, so it
+ * costs O(titles) and memory stays at one fixed-size sketch per title however many employees there are.
+ */
+@Component
+public class TitleSalaryAnalytics implements EmployeeDataset.Listener {
+
+    static final String ALL_TITLES = "*";
+    private static final String NO_TITLE = "Unknown";
+
+    private final EmployeeDataset dataset;
+    private Map<String, SalarySketch> sketches = new HashMap<>();
+
+    public TitleSalaryAnalytics(EmployeeDataset dataset) {
+        this.dataset = dataset;
+        dataset.addListener(this);
+    }
+
+    /**
+     * Returns the distribution for every title, ordered by title, followed by one for all employees under the title
+     * {@value #ALL_TITLES} merged from the per-title sketches.
+     */
+    public List<TitleSalaryStatsDTO> salaryByTitle() {
+        dataset.current();
+        final List<TitleSalaryStatsDTO> stats = new ArrayList<>();
+        final SalarySketch all = new SalarySketch();
+        synchronized (this) {
+            new TreeMap<>(sketches).forEach((title, sketch) -> {
+                stats.add(toStats(title, sketch));
+                all.merge(sketch);
+            });
+        }
+        stats.add(toStats(ALL_TITLES, all));
+        return stats;
+    }
+
+    @Override
+    public void onSnapshot(List<EmployeeResponseDTO> employees) {
+        final Map<String, SalarySketch> rebuilt = new HashMap<>();
+        employees.forEach(employee -> record(rebuilt, employee));
+        synchronized (this) {
+            sketches = rebuilt;
+        }
+    }
+
+    @Override
+    public synchronized void onCreated(EmployeeResponseDTO employee) {
+        record(sketches, employee);
+    }
+
+    @Override
+    public synchronized void onDeleted(EmployeeResponseDTO employee) {
+        final SalarySketch sketch = sketches.get(title(employee));
+        if (sketch != null && employee.getEmployee_salary() != null) {
+            sketch.remove(employee.getEmployee_salary());
+            if (sketch.count() == 0) {
+                sketches.remove(title(employee));
+            }
+        }
+    }
+
+    private static void record(Map<String, SalarySketch> sketches, EmployeeResponseDTO employee) {
+        if (employee.getEmployee_salary() != null) {
+            sketches.computeIfAbsent(title(employee), title -> new SalarySketch())
+                    .add(employee.getEmployee_salary());
+        }
+    }
+
+    private static String title(EmployeeResponseDTO employee) {
+        return employee.getEmployee_title() == null ? NO_TITLE : employee.getEmployee_title();
+    }
+
+    private static TitleSalaryStatsDTO toStats(String title, SalarySketch sketch) {
+        return new TitleSalaryStatsDTO(
+                title,
+                sketch.count(),
+                sketch.mean(),
+                sketch.percentile(0.5),
+                sketch.percentile(0.9),
+                sketch.percentile(0.99));
+    }
+}
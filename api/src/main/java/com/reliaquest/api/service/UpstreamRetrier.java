@@ -0,0 +1,353 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.RetryProperties;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.jfr.RetryBackoffEvent;
+import com.reliaquest.api.jfr.UpstreamAttemptEvent;
+import com.reliaquest.api.jfr.UpstreamRecoverEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+import org.springframework.retry.context.RetryContextSupport;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Retries upstream calls that failed with a 5xx or 429, and idempotent calls whose response was lost too, with a
+ * policy per operation taken from {@code api.retry}.
+ *
+ * <p>When the upstream says when to come back with {@code Retry-After}, the retry waits that long plus a little jitter
+ * so throttled callers do not return in lockstep; otherwise it backs off exponentially with jitter. A retry whose wait
+ * would overrun the policy's {@code timeout} is not made at all, and every retry is paid for from a budget that each
+ * call tops up by {@code budgetRatio}, so a struggling upstream never sees more than a fixed share of extra load. The
+ * {@code employee.api.upstream.retries} counter records what was decided for each failed attempt, and each attempt
+ * and backoff is traced as its own span and recorded as a JFR event, as is every fallback to {@code recover}.
+ *
+ * <p>Calls made under a {@link RequestDeadline} are bounded by it too: no attempt starts once it has passed, a retry
+ * whose wait would outlast it is not made, and an attempt that fails after it has passed surfaces as
+ * {@link DeadlineExceededException} rather than being recovered, since nobody is waiting for the answer.
+ */
+@Slf4j
+@Component
+public class UpstreamRetrier {
+
+    private static final long BUDGET_UNIT = 1000;
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final Sleeper sleeper;
+    private final Map<String, RetryTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, RetryTemplate> idempotentTemplates = new ConcurrentHashMap<>();
+    private final AtomicLong budget;
+    private final long maxBudget;
+    private final long budgetDeposit;
+
+    @Autowired
+    public UpstreamRetrier(RetryProperties properties, MeterRegistry meterRegistry, Tracer tracer) {
+        this(properties, meterRegistry, tracer, new ThreadWaitSleeper());
+    }
+
+    UpstreamRetrier(RetryProperties properties, MeterRegistry meterRegistry, Tracer tracer, Sleeper sleeper) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        this.sleeper = sleeper;
+        this.maxBudget = Math.max(1, properties.budgetCapacity()) * BUDGET_UNIT;
+        this.budgetDeposit = Math.round(properties.budgetRatio() * BUDGET_UNIT);
+        // Start full so retries are available before any traffic has paid for them.
+        this.budget = new AtomicLong(maxBudget);
+    }
+
+    /**
+     * Runs {@code call}, retrying it under the policy for {@code operation}. Once no further retry will be made,
+     * {@code recover} is handed the last failure; failures that are never retried are rethrown unchanged.
+     */
+    public <T> T execute(String operation, Supplier<T> call, Function<Throwable, T> recover) {
+        return execute(templates, false, operation, call, recover);
+    }
+
+    /**
+     * Like {@link #execute}, for calls the upstream applies at most once however often they are sent, e.g. writes
+     * carrying an {@code Idempotency-Key}. These are also retried when the upstream could not be reached or its
+     * response was lost, since a repeat cannot apply the call twice.
+     */
+    public <T> T executeIdempotent(String operation, Supplier<T> call, Function<Throwable, T> recover) {
+        return execute(idempotentTemplates, true, operation, call, recover);
+    }
+
+    private <T> T execute(
+            Map<String, RetryTemplate> cache,
+            boolean idempotent,
+            String operation,
+            Supplier<T> call,
+            Function<Throwable, T> recover) {
+        deposit();
+        return cache.computeIfAbsent(operation, ignored -> template(operation, idempotent))
+                .execute(context -> attempt(operation, context.getRetryCount() + 1, call), context -> {
+                    final Throwable failure = context.getLastThrowable();
+                    if (!isRetryable(failure, idempotent) && failure instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    UpstreamRecoverEvent.emit(operation, context.getRetryCount(), failure);
+                    return recover.apply(failure);
+                });
+    }
+
+    private <T> T attempt(String operation, int attempt, Supplier<T> call) {
+        final Span span = tracer.nextSpan()
+                .name("upstream attempt")
+                .tag("operation", operation)
+                .tag("attempt", Integer.toString(attempt))
+                .start();
+        final var event = UpstreamAttemptEvent.begin(operation, attempt);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            RequestDeadline.checkRemaining(operation);
+            final T result = call.get();
+            event.succeeded();
+            return result;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            span.error(e);
+            if (!(e instanceof DeadlineExceededException) && RequestDeadline.isExpired()) {
+                throw new DeadlineExceededException("Deadline passed while calling " + operation, e);
+            }
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private RetryTemplate template(String operation, boolean idempotent) {
+        final RetryTemplate template = new RetryTemplate();
+        template.setRetryPolicy(new BudgetedRetryPolicy(operation, properties.policyFor(operation), idempotent));
+        template.setBackOffPolicy(new PlannedBackOffPolicy(operation));
+        return template;
+    }
+
+    static boolean isRetryable(Throwable failure, boolean idempotent) {
+        return failure instanceof HttpServerErrorException
+                || failure instanceof HttpClientErrorException.TooManyRequests
+                || (idempotent && failure instanceof ResourceAccessException);
+    }
+
+    /**
+     * Reads {@code Retry-After} from an upstream error response, as either delay-seconds or an HTTP date.
+     *
+     * @return the requested wait in milliseconds, or -1 if the response carried none
+     */
+    static long retryAfterMillis(Throwable failure) {
+        if (!(failure instanceof HttpStatusCodeException http) || http.getResponseHeaders() == null) {
+            return -1;
+        }
+        final String value = http.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (!StringUtils.hasText(value)) {
+            return -1;
+        }
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                final Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant();
+                return Math.max(0, Duration.between(Instant.now(), at).toMillis());
+            } catch (DateTimeParseException ignored) {
+                return -1;
+            }
+        }
+    }
+
+    private void deposit() {
+        budget.getAndUpdate(current -> Math.min(maxBudget, current + budgetDeposit));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            final long current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private Counter retries(String operation, String outcome) {
+        return Counter.builder("employee.api.upstream.retries")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Decides once per failed attempt whether to retry and how long to wait first. {@link RetryTemplate} asks more than
+     * once per attempt, so the decision is kept on the context rather than re-drawn.
+     */
+    private final class BudgetedRetryPolicy implements RetryPolicy {
+
+        private final String operation;
+        private final RetryProperties.Policy policy;
+        private final boolean idempotent;
+
+        BudgetedRetryPolicy(String operation, RetryProperties.Policy policy, boolean idempotent) {
+            this.operation = operation;
+            this.policy = policy;
+            this.idempotent = idempotent;
+        }
+
+        @Override
+        public boolean canRetry(RetryContext context) {
+            final AttemptContext attempt = (AttemptContext) context;
+            if (attempt.getLastThrowable() == null) {
+                return true;
+            }
+            if (attempt.decidedFor != attempt.getRetryCount()) {
+                attempt.decidedFor = attempt.getRetryCount();
+                attempt.retry = decide(attempt);
+            }
+            return attempt.retry;
+        }
+
+        private boolean decide(AttemptContext attempt) {
+            final Throwable failure = attempt.getLastThrowable();
+            if (!isRetryable(failure, idempotent)) {
+                return false;
+            }
+            if (attempt.getRetryCount() >= policy.maxAttempts()) {
+                retries(operation, "exhausted").increment();
+                return false;
+            }
+            final long delay = delayMillis(attempt, failure);
+            final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attempt.startedNanos);
+            if (elapsed + delay > policy.timeout().toMillis()) {
+                log.warn(
+                        "Not retrying {}: waiting {} ms would exceed its {} timeout",
+                        operation,
+                        delay,
+                        policy.timeout());
+                retries(operation, "timeout").increment();
+                return false;
+            }
+            if (TimeUnit.MILLISECONDS.toNanos(delay) >= RequestDeadline.remainingNanos()) {
+                log.debug("Not retrying {}: waiting {} ms would outlast the request deadline", operation, delay);
+                retries(operation, "deadline").increment();
+                return false;
+            }
+            if (!withdraw()) {
+                log.warn("Not retrying {}: retry budget exhausted", operation);
+                retries(operation, "budget").increment();
+                return false;
+            }
+            log.debug("Retrying {} in {} ms after {}", operation, delay, failure.getMessage());
+            retries(operation, "retried").increment();
+            attempt.delayMillis = delay;
+            return true;
+        }
+
+        private long delayMillis(AttemptContext attempt, Throwable failure) {
+            final double random = ThreadLocalRandom.current().nextDouble();
+            final long retryAfter = retryAfterMillis(failure);
+            attempt.retryAfter = retryAfter >= 0;
+            if (retryAfter >= 0) {
+                return retryAfter + Math.round(policy.initialBackoff().toMillis() * policy.jitter() * random);
+            }
+            final double exponential =
+                    policy.initialBackoff().toMillis() * Math.pow(policy.multiplier(), attempt.getRetryCount() - 1);
+            final double capped = Math.min(exponential, policy.maxBackoff().toMillis());
+            return Math.round(capped * (1 - policy.jitter() * random));
+        }
+
+        @Override
+        public RetryContext open(RetryContext parent) {
+            return new AttemptContext(parent);
+        }
+
+        @Override
+        public void close(RetryContext context) {}
+
+        @Override
+        public void registerThrowable(RetryContext context, Throwable throwable) {
+            ((AttemptContext) context).registerThrowable(throwable);
+        }
+    }
+
+    private final class PlannedBackOffPolicy implements BackOffPolicy {
+
+        private final String operation;
+
+        PlannedBackOffPolicy(String operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public BackOffContext start(RetryContext context) {
+            return new PlannedBackOff((AttemptContext) context);
+        }
+
+        @Override
+        public void backOff(BackOffContext backOffContext) {
+            final AttemptContext attempt = ((PlannedBackOff) backOffContext).attempt();
+            final Span span = tracer.nextSpan()
+                    .name("retry backoff")
+                    .tag("operation", operation)
+                    .tag("delay.millis", Long.toString(attempt.delayMillis))
+                    .tag("retry.after", Boolean.toString(attempt.retryAfter))
+                    .start();
+            final var event = RetryBackoffEvent.begin(operation, attempt.delayMillis, attempt.retryAfter);
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                sleeper.sleep(attempt.delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                span.error(e);
+                throw new BackOffInterruptedException("Interrupted while backing off", e);
+            } finally {
+                event.commit();
+                span.end();
+            }
+        }
+    }
+
+    private static final class AttemptContext extends RetryContextSupport {
+
+        private final long startedNanos = System.nanoTime();
+        private int decidedFor = -1;
+        private boolean retry;
+        private long delayMillis;
+        private boolean retryAfter;
+
+        AttemptContext(RetryContext parent) {
+            super(parent);
+        }
+    }
+
+    private record PlannedBackOff(AttemptContext attempt) implements BackOffContext {}
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.DeadlineExceededException;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * The mock server instances the employee dataset is partitioned over, configured as a comma-separated
+ * {@code mock.api.base-url}. Employees are owned by the shard their lowercased name hashes to, since the upstream
+ * assigns ids itself and deletes by name, ignoring case.
+ *
+ * <p>{@link #scatter} calls every shard in parallel, running one on the caller thread and the rest on a small pool in
+ * the caller's trace and under its {@link RequestDeadline}; with a single shard no other thread is involved.
+ */
+@Component
+public class UpstreamShards {
+
+    private final List<String> baseUrls;
+    private final Tracer tracer;
+    private final ThreadPoolExecutor executor;
+
+    public UpstreamShards(
+            @Value("${mock.api.base-url}") List<String> baseUrls,
+            @Value("${mock.api.scatter-threads:32}") int scatterThreads,
+            Tracer tracer) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("mock.api.base-url must list at least one upstream");
+        }
+        this.baseUrls = List.copyOf(baseUrls);
+        this.tracer = tracer;
+        this.executor = new ThreadPoolExecutor(
+                0, Math.max(1, scatterThreads), 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "upstream-scatter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public int size() {
+        return baseUrls.size();
+    }
+
+    public String baseUrl(int shard) {
+        return baseUrls.get(shard);
+    }
+
+    /**
+     * Returns the shard owning employees named {@code name}.
+     */
+    public int ownerOf(String name) {
+        return Math.floorMod(name.toLowerCase(Locale.ROOT).hashCode(), baseUrls.size());
+    }
+
+    /**
+     * Calls {@code call} once per shard in parallel and returns the results in shard order; results may be
+     * {@code null}. If any call fails, the first failure in shard order is rethrown unwrapped and the rest are
+     * cancelled, as they are when the caller's deadline passes first.
+     *
+     * @throws DeadlineExceededException if the caller's deadline passes before every shard has answered
+     */
+    public <T> List<T> scatter(IntFunction<T> call) {
+        if (baseUrls.size() == 1) {
+            return Arrays.asList(call.apply(0));
+        }
+        final List<Future<T>> futures = new ArrayList<>(baseUrls.size());
+        try {
+            for (int shard = 1; shard < baseUrls.size(); shard++) {
+                final int target = shard;
+                final FutureTask<T> task = new FutureTask<>(tracer.currentTraceContext()
+                        .wrap(RequestDeadline.wrap(() -> call.apply(target))));
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+                futures.add(task);
+            }
+            final List<T> results = new ArrayList<>(baseUrls.size());
+            results.add(call.apply(0));
+            for (Future<T> future : futures) {
+                results.add(future.get(RequestDeadline.remainingNanos(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Deadline passed while waiting for upstream shards");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for upstream shards");
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ResourceAccessException(String.valueOf(cause));
+    }
+
+    /**
+     * @return calls currently running on the pool, for tests
+     */
+    int activeCalls() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.LoadSheddingProperties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that follows observed latency, in the style of a gradient limiter.
+ *
+ * <p>Every completed request compares its latency with a long-term average. While requests are no slower than
+ * {@code tolerance} times that average the limit grows by its square root, leaving room for a small queue; as they slow
+ * down the limit is scaled by the ratio, down to half per sample, and a 5xx scales it by {@code backoffRatio}. The
+ * long-term average drifts down when latency has halved, so the limit recovers after the upstream does. Samples taken
+ * while less than half the limit was in use do not grow it, since they say nothing about what more load would cost.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DRIFT_RATIO = 2.0;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final LoadSheddingProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    // Guarded by this.
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties) {
+        this.properties = properties;
+        this.limit = clamp(properties.initialLimit());
+    }
+
+    /**
+     * Admits a request if the requests in flight are below the limit, or below {@code sheddableShare} of it for a
+     * sheddable request. Every admitted request must be {@linkplain #release released}.
+     */
+    public boolean tryAcquire(boolean sheddable) {
+        final double share = sheddable ? properties.sheddableShare() : 1.0;
+        final int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes an admitted request that took {@code rttNanos}, adjusting the limit.
+     *
+     * @param failed whether the request failed in a way that suggests overload, e.g. with a 5xx
+     */
+    public void release(long rttNanos, boolean failed) {
+        final int inFlightBefore = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), inFlightBefore, failed);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightBefore, boolean failed) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / Math.max(1, properties.longWindow());
+        }
+        if (longRttNanos / rttNanos > DRIFT_RATIO) {
+            longRttNanos *= DRIFT_DECAY;
+        }
+
+        final double current = limit;
+        final double estimate;
+        if (failed) {
+            estimate = current * properties.backoffRatio();
+        } else if (inFlightBefore < current / 2) {
+            return;
+        } else {
+            final double gradient =
+                    Math.max(MIN_GRADIENT, Math.min(1.0, properties.tolerance() * longRttNanos / rttNanos));
+            estimate = current * gradient + Math.sqrt(current);
+        }
+        limit = clamp(current * (1 - properties.smoothing()) + estimate * properties.smoothing());
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.minLimit(), Math.min(properties.maxLimit(), value));
+    }
+}
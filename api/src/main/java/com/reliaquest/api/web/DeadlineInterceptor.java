@@ -0,0 +1,64 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.DeadlineProperties;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.service.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sets the {@link RequestDeadline} an employee request is served under: the timeout the client states in the
+ * configured header, capped at {@code maxTimeout}, or else the one configured for the handler method. The service
+ * layer bounds its upstream work by it, so a request the client has stopped waiting for stops consuming upstream
+ * capacity soon after.
+ */
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE = DeadlineInterceptor.class.getName() + ".scope";
+
+    private final DeadlineProperties properties;
+
+    public DeadlineInterceptor(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final Duration timeout = timeoutFor(request, handler);
+        request.setAttribute(SCOPE, RequestDeadline.after(timeout).attach());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SCOPE) instanceof RequestDeadline.Scope scope) {
+            request.removeAttribute(SCOPE);
+            scope.close();
+        }
+    }
+
+    private Duration timeoutFor(HttpServletRequest request, Object handler) {
+        final String stated = request.getHeader(properties.header());
+        if (StringUtils.hasText(stated)) {
+            final Duration timeout;
+            try {
+                timeout = DurationStyle.detectAndParse(stated.trim());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Invalid " + properties.header() + " header: " + stated);
+            }
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new InvalidRequestException(properties.header() + " must be positive");
+            }
+            return timeout.compareTo(properties.maxTimeout()) > 0 ? properties.maxTimeout() : timeout;
+        }
+        return handler instanceof HandlerMethod method
+                ? properties.timeoutFor(method.getMethod().getName())
+                : properties.defaultTimeout();
+    }
+}
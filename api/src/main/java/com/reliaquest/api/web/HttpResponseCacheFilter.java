@@ -0,0 +1,246 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.HttpCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Serves repeated GETs and HEADs of the configured routes from encoded bytes instead of calling the controller and
+ * serializing again. Responses are keyed by the version of the {@link com.reliaquest.api.service.EmployeeDataset}
+ * snapshot they were produced under, which is also sent as a strong {@code ETag}; clients revalidating with a current
+ * {@code If-None-Match} get a 304. The JSON bytes, and their gzip form for clients accepting it, are served until the
+ * dataset moves to a new version, on a refresh or an applied create or delete. A successful unsafe request under
+ * {@code /employees} also drops every cached response; safe methods never do.
+ *
+ * <p>Routes answered from the upstream rather than the dataset, such as the salary statistics, only follow writes made
+ * through other replicas while the change stream is live and moves the dataset version with them. While it is not,
+ * responses are kept no longer than the {@code max-age} of {@code cacheControl}, and the body is folded into the
+ * {@code ETag} so a changed body is never answered with a 304.
+ */
+@Slf4j
+public class HttpResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String WRITE_PATH_PREFIX = "/employees";
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final HttpCacheProperties properties;
+    private final Set<String> paths;
+    private final LongSupplier datasetVersion;
+    private final BooleanSupplier changesLive;
+    private final long maxAgeNanos;
+    private final ConcurrentHashMap<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // Keeps ETags handed out before a restart from matching versions handed out after it.
+    private final String epoch = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    /**
+     * @param datasetVersion version of the current dataset snapshot, refreshing it first if it has gone stale
+     * @param changesLive whether writes made through other replicas are currently applied to the dataset
+     */
+    public HttpResponseCacheFilter(
+            HttpCacheProperties properties,
+            MeterRegistry meterRegistry,
+            LongSupplier datasetVersion,
+            BooleanSupplier changesLive) {
+        this.properties = properties;
+        this.paths = Set.copyOf(properties.paths());
+        this.datasetVersion = datasetVersion;
+        this.changesLive = changesLive;
+        this.maxAgeNanos = maxAgeNanos(properties.cacheControl());
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.notModified = Counter.builder("employee.api.http_cache.not_modified").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        final String path = path(request);
+        if (isSafe(request)) {
+            return !isCacheable(request) || !paths.contains(path);
+        }
+        return !path.startsWith(WRITE_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!isSafe(request)) {
+            filterChain.doFilter(request, response);
+            if (HttpStatusCode.valueOf(response.getStatus()).is2xxSuccessful()) {
+                invalidate();
+            }
+            return;
+        }
+
+        final String key = path(request) + '|' + Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "");
+        final long version = datasetVersion.getAsLong();
+        final CachedResponse cached = responses.get(key);
+        if (cached != null && cached.version() == version && isFresh(cached)) {
+            hits.increment();
+            write(cached, request, response);
+            return;
+        }
+
+        misses.increment();
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final long observedGeneration = generation.get();
+        final var capture = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, capture);
+        if (capture.getStatus() != HttpStatus.OK.value()) {
+            capture.copyBodyToResponse();
+            return;
+        }
+        final byte[] body = capture.getContentAsByteArray();
+        final byte[] gzipped = body.length >= properties.minGzipSize().toBytes() ? gzip(body) : null;
+        final CachedResponse fresh = new CachedResponse(
+                version, etag(key, version, body), capture.getContentType(), body, gzipped, System.nanoTime());
+        // A change that landed while the controller ran may not be reflected in this body; serve it but don't keep it.
+        if (generation.get() == observedGeneration
+                && datasetVersion.getAsLong() == version
+                && (responses.size() < properties.maxEntries() || responses.containsKey(key))) {
+            responses.put(key, fresh);
+        }
+        write(fresh, request, response);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        responses.clear();
+    }
+
+    /**
+     * Tags a representation with the dataset version it was produced under. The route, {@code Accept} header and body
+     * are folded in so that different representations of one version never share a strong {@code ETag}.
+     */
+    private String etag(String key, long version, byte[] body) {
+        final int representation = 31 * key.hashCode() + Arrays.hashCode(body);
+        return '"' + epoch + '-' + version + '-' + Integer.toHexString(representation) + '"';
+    }
+
+    private boolean isFresh(CachedResponse cached) {
+        return changesLive.getAsBoolean() || System.nanoTime() - cached.storedAtNanos() < maxAgeNanos;
+    }
+
+    /**
+     * @return the {@code max-age} of {@code cacheControl}, or 0 when it has none
+     */
+    private static long maxAgeNanos(String cacheControl) {
+        final Matcher maxAge = MAX_AGE.matcher(Objects.toString(cacheControl, ""));
+        return maxAge.find() ? TimeUnit.SECONDS.toNanos(Long.parseLong(maxAge.group(1))) : 0;
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, properties.cacheControl());
+        response.setHeader(HttpHeaders.VARY, VARY);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            notModified.increment();
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        final boolean gzip = cached.gzipped() != null && acceptsGzip(request);
+        final byte[] body = gzip ? cached.gzipped() : cached.body();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        if (!HttpMethod.HEAD.matches(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        final String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        final var buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (var out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            log.warn("Could not gzip cached response: {}", e.getMessage());
+            return null;
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @return whether the method is safe, so it cannot change what the cached routes return
+     */
+    private static boolean isSafe(HttpServletRequest request) {
+        final String method = request.getMethod();
+        return HttpMethod.GET.matches(method)
+                || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method)
+                || HttpMethod.TRACE.matches(method);
+    }
+
+    private static boolean isCacheable(HttpServletRequest request) {
+        final String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.api.http_cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedResponse(
+            long version, String etag, String contentType, byte[] body, byte[] gzipped, long storedAtNanos) {}
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * How a handler method is treated by {@link LoadSheddingInterceptor}. Handlers without it are {@link Level#NORMAL}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoadPriority {
+
+    Level value();
+
+    enum Level {
+        /** Cheap reads served from memory; never limited and not sampled. */
+        CRITICAL,
+        /**
+         * Reads answered from the local employee dataset: {@link #CRITICAL} while it is loaded and fresh, otherwise
+         * {@link #NORMAL}, since such a read then waits for the upstream to fetch it.
+         */
+        DATASET,
+        /** Admitted up to the full concurrency limit. */
+        NORMAL,
+        /** Expensive writes and searches, admitted only up to a share of the limit so they are shed first. */
+        SHEDDABLE
+    }
+}
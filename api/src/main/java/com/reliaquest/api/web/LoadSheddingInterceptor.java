@@ -0,0 +1,101 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.LoadSheddingProperties;
+import com.reliaquest.api.exception.LoadShedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sheds requests that would push the employee endpoints past the {@link AdaptiveConcurrencyLimiter} limit, before
+ * they can queue up in Tomcat behind a slow upstream. Each handler's {@link LoadPriority} decides how it is treated;
+ * shed requests fail with {@link LoadShedException}, answered as 503 with {@code Retry-After}.
+ *
+ * <p>The limit and requests in flight are published as {@code employee.api.concurrency.limit} and
+ * {@code employee.api.concurrency.in_flight}, and shed requests as {@code employee.api.concurrency.rejected} tagged
+ * with their priority.
+ */
+@Slf4j
+public class LoadSheddingInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED_AT = LoadSheddingInterceptor.class.getName() + ".admittedAt";
+
+    private final LoadSheddingProperties properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final BooleanSupplier datasetInMemory;
+    private final Map<LoadPriority.Level, Counter> rejected = new EnumMap<>(LoadPriority.Level.class);
+
+    /**
+     * @param datasetInMemory whether {@link LoadPriority.Level#DATASET} handlers can be answered without the upstream
+     */
+    public LoadSheddingInterceptor(
+            LoadSheddingProperties properties, MeterRegistry meterRegistry, BooleanSupplier datasetInMemory) {
+        this.properties = properties;
+        this.limiter = new AdaptiveConcurrencyLimiter(properties);
+        this.datasetInMemory = datasetInMemory;
+        Gauge.builder("employee.api.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("employee.api.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+        for (LoadPriority.Level level : LoadPriority.Level.values()) {
+            if (level == LoadPriority.Level.DATASET) {
+                continue;
+            }
+            rejected.put(
+                    level,
+                    Counter.builder("employee.api.concurrency.rejected")
+                            .tag("priority", level.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final LoadPriority.Level level = levelOf(handler);
+        if (level == LoadPriority.Level.CRITICAL) {
+            return true;
+        }
+        if (!limiter.tryAcquire(level == LoadPriority.Level.SHEDDABLE)) {
+            rejected.get(level).increment();
+            log.debug(
+                    "Shedding {} {} at a limit of {}",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    limiter.getLimit());
+            throw new LoadShedException("Too many requests in flight, retry later", properties.retryAfter());
+        }
+        request.setAttribute(ADMITTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED_AT) instanceof Long admittedAt) {
+            request.removeAttribute(ADMITTED_AT);
+            limiter.release(System.nanoTime() - admittedAt, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    private LoadPriority.Level levelOf(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return LoadPriority.Level.CRITICAL;
+        }
+        final LoadPriority priority = method.getMethodAnnotation(LoadPriority.class);
+        if (priority == null) {
+            return LoadPriority.Level.NORMAL;
+        }
+        if (priority.value() == LoadPriority.Level.DATASET) {
+            return datasetInMemory.getAsBoolean() ? LoadPriority.Level.CRITICAL : LoadPriority.Level.NORMAL;
+        }
+        return priority.value();
+    }
+}
@@ -3,7 +3,7 @@ package com.reliaquest.api;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "api.warm-up.timeout=1s")
 class ApiApplicationTest {
 
     @Test
@@ -3,11 +3,22 @@ package com.reliaquest.api.controller;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.dto.CreateTicketDTO;
 import com.reliaquest.api.dto.EmployeeInputDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeStatsDTO;
+import com.reliaquest.api.dto.EmployeeSummaryDTO;
+import com.reliaquest.api.dto.TitleSalaryStatsDTO;
 import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.service.EmployeeRangeIndex;
+import com.reliaquest.api.service.EmployeeSummarizer;
+import com.reliaquest.api.service.EmployeeWriteBehindQueue;
 import com.reliaquest.api.service.MockEmployeeApiService;
+import com.reliaquest.api.service.NameAutocompleteIndex;
+import com.reliaquest.api.service.TitleSalaryAnalytics;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +28,21 @@ class EmployeeControllerUnitTest {
     @Mock
     MockEmployeeApiService employeeService;
 
+    @Mock
+    EmployeeWriteBehindQueue writeBehindQueue;
+
+    @Mock
+    NameAutocompleteIndex autocompleteIndex;
+
+    @Mock
+    EmployeeRangeIndex rangeIndex;
+
+    @Mock
+    TitleSalaryAnalytics titleSalaryAnalytics;
+
+    @Mock
+    EmployeeSummarizer summarizer;
+
     @InjectMocks
     EmployeeController controller;
 
@@ -40,10 +66,8 @@ class EmployeeControllerUnitTest {
     void testGetEmployeesByNameSearch() {
         EmployeeResponseDTO employee1 = new EmployeeResponseDTO();
         employee1.setEmployee_name("Chirag");
-        EmployeeResponseDTO employee2 = new EmployeeResponseDTO();
-        employee2.setEmployee_name("John");
 
-        when(employeeService.getAllEmployees()).thenReturn(List.of(employee1, employee2));
+        when(employeeService.searchEmployeesByName("chi")).thenReturn(List.of(employee1));
 
         ResponseEntity<List<EmployeeResponseDTO>> response = controller.getEmployeesByNameSearch("chi");
 
@@ -51,6 +75,55 @@ class EmployeeControllerUnitTest {
         assertEquals(List.of(employee1), response.getBody());
     }
 
+    @Test
+    void testAutocompleteNames() {
+        when(autocompleteIndex.complete("ti", 5, NameAutocompleteIndex.Ranking.SALARY))
+                .thenReturn(List.of("Tiger Nixon"));
+
+        ResponseEntity<List<String>> response =
+                controller.autocompleteNames("ti", 5, NameAutocompleteIndex.Ranking.SALARY);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(List.of("Tiger Nixon"), response.getBody());
+    }
+
+    @Test
+    void testGetEmployeesBySalaryRange() {
+        EmployeePageDTO page = new EmployeePageDTO(List.of(new EmployeeResponseDTO()), "100:1");
+        when(rangeIndex.range(EmployeeRangeIndex.Field.SALARY, 50, 150, 1, null)).thenReturn(page);
+
+        ResponseEntity<EmployeePageDTO> response = controller.getEmployeesBySalaryRange(50, 150, 1, null);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(page, response.getBody());
+    }
+
+    @Test
+    void testGetSalaryStatsByTitle() {
+        List<TitleSalaryStatsDTO> stats = List.of(new TitleSalaryStatsDTO("Engineer", 1, 100.0, 100, 100, 100));
+        when(titleSalaryAnalytics.salaryByTitle()).thenReturn(stats);
+
+        ResponseEntity<List<TitleSalaryStatsDTO>> response = controller.getSalaryStatsByTitle();
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(stats, response.getBody());
+    }
+
+    @Test
+    void testGetEmployeeSummary() {
+        EmployeeSummaryDTO summary = EmployeeSummaryDTO.builder()
+                .count(2)
+                .highestSalary(200)
+                .topEarnerNames(List.of("Chirag"))
+                .build();
+        when(summarizer.summarize(1, null)).thenReturn(summary);
+
+        ResponseEntity<EmployeeSummaryDTO> response = controller.getEmployeeSummary(1, null);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(summary, response.getBody());
+    }
+
     @Test
     void testGetEmployeeByIdFound() {
         EmployeeResponseDTO employee = new EmployeeResponseDTO();
@@ -71,11 +144,9 @@ class EmployeeControllerUnitTest {
 
     @Test
     void testGetHighestSalaryOfEmployees() {
-        EmployeeResponseDTO employee1 = new EmployeeResponseDTO();
-        employee1.setEmployee_salary(100);
-        EmployeeResponseDTO employee2 = new EmployeeResponseDTO();
-        employee2.setEmployee_salary(500);
-        when(employeeService.getAllEmployees()).thenReturn(List.of(employee1, employee2));
+        EmployeeStatsDTO stats = new EmployeeStatsDTO();
+        stats.setMaxSalary(500);
+        when(employeeService.getEmployeeStats()).thenReturn(stats);
 
         ResponseEntity<Integer> response = controller.getHighestSalaryOfEmployees();
 
@@ -83,6 +154,15 @@ class EmployeeControllerUnitTest {
         assertEquals(500, response.getBody());
     }
 
+    @Test
+    void testGetHighestSalaryOfEmployeesWhenEmpty() {
+        when(employeeService.getEmployeeStats()).thenReturn(new EmployeeStatsDTO());
+
+        ResponseEntity<Integer> response = controller.getHighestSalaryOfEmployees();
+
+        assertEquals(0, response.getBody());
+    }
+
     @Test
     void testGetTopTenHighestEarningEmployeeNames() {
         EmployeeResponseDTO employee1 = new EmployeeResponseDTO();
@@ -91,7 +171,9 @@ class EmployeeControllerUnitTest {
         EmployeeResponseDTO employee2 = new EmployeeResponseDTO();
         employee2.setEmployee_name("John");
         employee2.setEmployee_salary(1000);
-        when(employeeService.getAllEmployees()).thenReturn(List.of(employee1, employee2));
+        EmployeeStatsDTO stats = new EmployeeStatsDTO();
+        stats.setTopEarners(List.of(employee1, employee2));
+        when(employeeService.getEmployeeStats()).thenReturn(stats);
 
         ResponseEntity<List<String>> response = controller.getTopTenHighestEarningEmployeeNames();
 
@@ -117,12 +199,34 @@ class EmployeeControllerUnitTest {
         assertEquals(responseDto, response.getBody());
     }
 
+    @Test
+    void testCreateEmployeeAsync() {
+        EmployeeInputDTO input = new EmployeeInputDTO("Chirag", 123, 24, "Test");
+        CreateTicketDTO ticket = CreateTicketDTO.builder()
+                .token("abc")
+                .status(CreateTicketDTO.Status.QUEUED)
+                .build();
+        when(writeBehindQueue.submit(input)).thenReturn(ticket);
+
+        ResponseEntity<CreateTicketDTO> response = controller.createEmployeeAsync(input);
+
+        assertEquals(202, response.getStatusCodeValue());
+        assertEquals("/employees/async/abc", response.getHeaders().getLocation().toString());
+        assertEquals(ticket, response.getBody());
+    }
+
+    @Test
+    void testGetCreateStatusNotFound() {
+        when(writeBehindQueue.getTicket("abc")).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> controller.getCreateStatus("abc"));
+    }
+
     @Test
     void testDeleteEmployeeByIdFoundAndDeleted() {
         EmployeeResponseDTO responseDto = new EmployeeResponseDTO();
         responseDto.setEmployee_name("Chirag");
         when(employeeService.getEmployeeById("123")).thenReturn(responseDto);
-        when(employeeService.deleteEmployeeByName("Chirag")).thenReturn(true);
+        when(employeeService.deleteEmployee(responseDto)).thenReturn(true);
         ResponseEntity<String> response = controller.deleteEmployeeById("123");
         assertEquals(200, response.getStatusCodeValue());
         assertEquals("Deleted employee: Chirag", response.getBody());
@@ -140,7 +244,7 @@ class EmployeeControllerUnitTest {
         responseDto.setEmployee_name("John");
 
         when(employeeService.getEmployeeById("123")).thenReturn(responseDto);
-        when(employeeService.deleteEmployeeByName("John")).thenReturn(false);
+        when(employeeService.deleteEmployee(responseDto)).thenReturn(false);
         assertThrows(RuntimeException.class, () -> controller.deleteEmployeeById("123"));
     }
 }
@@ -0,0 +1,95 @@
+package com.reliaquest.api.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.*;
+
+class EmployeeResponseJsonTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testSerialize_writesPropertyNames() throws Exception {
+        EmployeeResponseDTO employee =
+                new EmployeeResponseDTO("1", "Chirag", 1000, 24, "Engineer", "chirag@company.com");
+
+        Map<String, Object> written = objectMapper.readValue(
+                objectMapper.writeValueAsString(employee), new TypeReference<LinkedHashMap<String, Object>>() {});
+
+        assertEquals(
+                List.of("id", "employee_name", "employee_salary", "employee_age", "employee_title", "employee_email"),
+                List.copyOf(written.keySet()));
+        assertEquals(1000, written.get("employee_salary"));
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        EmployeeResponseDTO employee =
+                new EmployeeResponseDTO("1", "Chirag", 1000, 24, "Engineer", "chirag@company.com");
+
+        EmployeeResponseDTO read =
+                objectMapper.readValue(objectMapper.writeValueAsBytes(employee), EmployeeResponseDTO.class);
+
+        assertEquals("1", read.getId());
+        assertEquals("Chirag", read.getEmployee_name());
+        assertEquals(1000, read.getEmployee_salary());
+        assertEquals(24, read.getEmployee_age());
+        assertEquals("Engineer", read.getEmployee_title());
+        assertEquals("chirag@company.com", read.getEmployee_email());
+    }
+
+    @Test
+    void testDeserialize_skipsUnknownFieldsAndKeepsNulls() throws Exception {
+        String json = "{\"id\":\"1\",\"extra\":{\"nested\":[1,2]},\"employee_salary\":null,\"employee_age\":30}";
+
+        EmployeeResponseDTO read = objectMapper.readValue(json, EmployeeResponseDTO.class);
+
+        assertEquals("1", read.getId());
+        assertNull(read.getEmployee_salary());
+        assertEquals(30, read.getEmployee_age());
+        assertNull(read.getEmployee_name());
+    }
+
+    @Test
+    void testDeserialize_coercesScalarsLikeDatabind() throws Exception {
+        String json = "{\"id\":17,\"employee_salary\":\" 42 \",\"employee_age\":\"\"}";
+
+        EmployeeResponseDTO read = objectMapper.readValue(json, EmployeeResponseDTO.class);
+
+        assertEquals("17", read.getId());
+        assertEquals(42, read.getEmployee_salary());
+        assertNull(read.getEmployee_age());
+    }
+
+    @Test
+    void testDeserialize_rejectsValuesThatAreNotIntegersOrStrings() {
+        for (String json : List.of(
+                "{\"employee_salary\":\"abc\"}",
+                "{\"employee_salary\":{}}",
+                "{\"employee_age\":[30]}",
+                "{\"employee_age\":3000000000}",
+                "{\"employee_name\":{\"first\":\"Chirag\"}}",
+                "{\"id\":[1]}")) {
+            assertThrows(
+                    JsonProcessingException.class,
+                    () -> objectMapper.readValue(json, EmployeeResponseDTO.class),
+                    json);
+        }
+    }
+
+    @Test
+    void testDeserialize_list() throws Exception {
+        String json = "{\"status\":\"ok\",\"data\":[{\"id\":\"1\"},{\"id\":\"2\",\"employee_name\":\"John\"}]}";
+
+        EmployeeListResponseWrapper read = objectMapper.readValue(json, EmployeeListResponseWrapper.class);
+
+        assertEquals(2, read.getData().size());
+        assertEquals("John", read.getData().get(1).getEmployee_name());
+    }
+}
@@ -3,9 +3,11 @@ package com.reliaquest.api.exception;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -40,6 +42,18 @@ class GlobalExceptionHandlerTest {
         assertNotNull(body.getTimestamp());
     }
 
+    @Test
+    void testHandleInvalidRequest() {
+        ResponseEntity<ApiErrorResponse> response =
+                handler.handleInvalidRequest(new InvalidRequestException("Invalid cursor"), mockRequest);
+
+        assertEquals(400, response.getStatusCodeValue());
+        ApiErrorResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals("Bad Request", body.getError());
+        assertEquals("Invalid cursor", body.getMessage());
+    }
+
     @Test
     void testHandleValidationErrors() {
         MethodArgumentNotValidException ex = mock(MethodArgumentNotValidException.class);
@@ -92,4 +106,46 @@ class GlobalExceptionHandlerTest {
         assertEquals("/api/test", body.getPath());
         assertNotNull(body.getTimestamp());
     }
+
+    @Test
+    void testHandleWriteQueueFull() {
+        WriteQueueFullException ex = new WriteQueueFullException("Queue full");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleWriteQueueFull(ex, mockRequest);
+
+        assertEquals(503, response.getStatusCodeValue());
+        ApiErrorResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(503, body.getStatus());
+        assertEquals("Service Unavailable", body.getError());
+        assertEquals("Queue full", body.getMessage());
+        assertEquals("/api/test", body.getPath());
+    }
+
+    @Test
+    void testHandleLoadShed_sendsRetryAfter() {
+        LoadShedException ex = new LoadShedException("Too busy", Duration.ofMillis(1500));
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleLoadShed(ex, mockRequest);
+
+        assertEquals(503, response.getStatusCodeValue());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        ApiErrorResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals("Service Unavailable", body.getError());
+        assertEquals("Too busy", body.getMessage());
+    }
+
+    @Test
+    void testHandleDeadlineExceeded_answersGatewayTimeout() {
+        DeadlineExceededException ex = new DeadlineExceededException("Deadline passed");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleDeadlineExceeded(ex, mockRequest);
+
+        assertEquals(504, response.getStatusCodeValue());
+        ApiErrorResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals("Gateway Timeout", body.getError());
+        assertEquals("Deadline passed", body.getMessage());
+    }
 }
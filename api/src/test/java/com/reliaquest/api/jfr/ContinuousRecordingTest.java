@@ -0,0 +1,93 @@
+package com.reliaquest.api.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.FlightRecorderProperties;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+class ContinuousRecordingTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    ContinuousRecording recording;
+
+    @BeforeEach
+    void setup() {
+        recording = new ContinuousRecording(new FlightRecorderProperties(
+                true, "default", Duration.ofMinutes(5), DataSize.ofMegabytes(16), dumpDirectory));
+    }
+
+    @AfterEach
+    void teardown() {
+        recording.stop();
+    }
+
+    @Test
+    void testDump_containsApplicationEvents() throws Exception {
+        recording.start();
+        UpstreamRequestEvent.begin("GET", "http://localhost:8112/api/v1/employee", 0)
+                .completed(200, 512);
+
+        Path dump = recording.dump();
+
+        List<RecordedEvent> requests = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("com.reliaquest.api.UpstreamRequest"))
+                .toList();
+        assertEquals(1, requests.size());
+        assertEquals(200, requests.get(0).getInt("status"));
+        assertEquals(512L, requests.get(0).getLong("responseBytes"));
+    }
+
+    @Test
+    void testDump_writesEachDumpToItsOwnFile() throws Exception {
+        recording.start();
+
+        Path first = recording.dump();
+        Path second = recording.dump();
+
+        assertNotEquals(first, second);
+        assertTrue(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    @Test
+    void testDump_leavesOutEnvironmentAndSystemProperties() throws Exception {
+        recording.start();
+
+        Path dump = recording.dump();
+
+        assertTrue(RecordingFile.readAllEvents(dump).stream()
+                .map(event -> event.getEventType().getName())
+                .noneMatch(name -> name.equals("jdk.InitialEnvironmentVariable")
+                        || name.equals("jdk.InitialSystemProperty")));
+    }
+
+    @Test
+    void testEndpoint_deletesDumpOnceSent() throws Exception {
+        recording.start();
+        Resource resource = new FlightRecordingEndpoint(recording).dump();
+        Path dump = resource.getFile().toPath();
+
+        try (InputStream in = resource.getInputStream()) {
+            assertTrue(in.readAllBytes().length > 0);
+        }
+
+        assertFalse(Files.exists(dump));
+    }
+
+    @Test
+    void testDump_failsWhenNotRecording() {
+        assertThrows(IllegalStateException.class, recording::dump);
+    }
+}
@@ -4,15 +4,22 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.config.RetryProperties;
 import com.reliaquest.api.dto.*;
 import com.reliaquest.api.dto.EmployeeListResponseWrapper;
 import com.reliaquest.api.dto.EmployeeResponseWrapper;
 import com.reliaquest.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 import org.springframework.http.*;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.*;
 
 class EmployeeApiServiceTest {
@@ -24,13 +31,33 @@ class EmployeeApiServiceTest {
 
     final String baseUrl = "http://mock-api";
 
+    final List<Object> events = new ArrayList<>();
+
     @BeforeEach
-    void setup() throws NoSuchFieldException, IllegalAccessException {
+    void setup() {
         MockitoAnnotations.openMocks(this);
-        service = new MockEmployeeApiService(baseUrl);
-        var field = MockEmployeeApiService.class.getDeclaredField("restTemplate");
-        field.setAccessible(true);
-        field.set(service, restTemplate);
+        HedgingProperties hedging = new HedgingProperties(
+                false, 0.95, Duration.ofMillis(50), Duration.ofMillis(250), 0.1, Duration.ofSeconds(5), 4);
+        EmployeeCacheProperties cache = new EmployeeCacheProperties(
+                true,
+                EmployeeCacheProperties.Eviction.TINY_LFU,
+                DataSize.ofMegabytes(1),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(2));
+        RetryProperties retry = new RetryProperties(
+                new RetryProperties.Policy(
+                        3, Duration.ofMillis(1), 2.0, Duration.ofMillis(10), 0.0, Duration.ofSeconds(5)),
+                Map.of(),
+                0.2,
+                10);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new MockEmployeeApiService(
+                restTemplate,
+                new UpstreamShards(List.of(baseUrl), 4, Tracer.NOOP),
+                new RequestHedger(hedging, meterRegistry, Tracer.NOOP),
+                new UpstreamRetrier(retry, meterRegistry, Tracer.NOOP),
+                new EmployeeCache(cache, meterRegistry),
+                events::add);
     }
 
     @Test
@@ -48,6 +75,64 @@ class EmployeeApiServiceTest {
         verify(restTemplate).getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class);
     }
 
+    @Test
+    void testGetAllEmployees_retriesServerError() {
+        EmployeeListResponseWrapper wrapper = new EmployeeListResponseWrapper();
+        wrapper.setData(List.of(new EmployeeResponseDTO()));
+
+        when(restTemplate.getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenReturn(new ResponseEntity<>(wrapper, HttpStatus.OK));
+
+        List<EmployeeResponseDTO> result = service.getAllEmployees();
+
+        assertEquals(1, result.size());
+        verify(restTemplate, times(2)).getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class);
+    }
+
+    @Test
+    void testGetAllEmployees_attemptsExhaustedThrowsServiceUnavailable() {
+        when(restTemplate.getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThrows(ServiceUnavailableException.class, () -> service.getAllEmployees());
+        verify(restTemplate, times(3)).getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class);
+    }
+
+    @Test
+    void testSearchEmployeesByName_pushesFilterUpstream() {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setEmployee_name("Chirag");
+        EmployeeListResponseWrapper wrapper = new EmployeeListResponseWrapper();
+        wrapper.setData(List.of(employee));
+
+        when(restTemplate.getForEntity(
+                        baseUrl + "/employee?nameContains={nameFragment}", EmployeeListResponseWrapper.class, "chi"))
+                .thenReturn(new ResponseEntity<>(wrapper, HttpStatus.OK));
+
+        List<EmployeeResponseDTO> result = service.searchEmployeesByName("chi");
+
+        assertEquals(List.of(employee), result);
+        verify(restTemplate, never()).getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class);
+    }
+
+    @Test
+    void testGetEmployeeStats_success() {
+        EmployeeStatsDTO stats = new EmployeeStatsDTO();
+        stats.setCount(2);
+        stats.setMaxSalary(500);
+        EmployeeStatsResponseWrapper wrapper = new EmployeeStatsResponseWrapper();
+        wrapper.setData(stats);
+
+        when(restTemplate.getForEntity(baseUrl + "/employee/stats", EmployeeStatsResponseWrapper.class))
+                .thenReturn(new ResponseEntity<>(wrapper, HttpStatus.OK));
+
+        EmployeeStatsDTO result = service.getEmployeeStats();
+
+        assertEquals(500, result.getMaxSalary());
+        verify(restTemplate, never()).getForEntity(baseUrl + "/employee", EmployeeListResponseWrapper.class);
+    }
+
     @Test
     void testGetEmployeeById_found() {
         EmployeeResponseDTO employee = new EmployeeResponseDTO();
@@ -64,6 +149,23 @@ class EmployeeApiServiceTest {
         assertEquals("123", result.getId());
     }
 
+    @Test
+    void testGetEmployeeById_cachedAfterFirstLookup() {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId("123");
+        EmployeeResponseWrapper wrapper = new EmployeeResponseWrapper();
+        wrapper.setData(employee);
+
+        when(restTemplate.getForEntity(baseUrl + "/employee/123", EmployeeResponseWrapper.class))
+                .thenReturn(new ResponseEntity<>(wrapper, HttpStatus.OK));
+
+        service.getEmployeeById("123");
+        EmployeeResponseDTO result = service.getEmployeeById("123");
+
+        assertSame(employee, result);
+        verify(restTemplate, times(1)).getForEntity(baseUrl + "/employee/123", EmployeeResponseWrapper.class);
+    }
+
     @Test
     void testGetEmployeeById_notFoundReturnsNull() {
         String employeeId = "999";
@@ -100,19 +202,61 @@ class EmployeeApiServiceTest {
 
         assertNotNull(result);
         assertEquals("Chirag", result.getEmployee_name());
+        assertEquals(List.of(new EmployeeCreatedEvent(created)), events);
+    }
+
+    @Test
+    void testCreateEmployee_writesThroughToCache() {
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        created.setId("456");
+        created.setEmployee_name("Chirag");
+        EmployeeResponseWrapper wrapper = new EmployeeResponseWrapper();
+        wrapper.setData(created);
+
+        when(restTemplate.postForEntity(
+                        eq(baseUrl + "/employee"), any(HttpEntity.class), eq(EmployeeResponseWrapper.class)))
+                .thenReturn(new ResponseEntity<>(wrapper, HttpStatus.OK));
+
+        service.createEmployee(new EmployeeInputDTO());
+
+        assertSame(created, service.getEmployeeById("456"));
+        verify(restTemplate, never()).getForEntity(anyString(), eq(EmployeeResponseWrapper.class));
     }
 
     @Test
     void testDeleteEmployeeByName_success() {
         when(restTemplate.exchange(
-                        eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.OK));
+                        eq(baseUrl + "/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EmployeeDeleteResponseWrapper.class)))
+                .thenReturn(new ResponseEntity<>(deleteResponse(true), HttpStatus.OK));
 
         boolean result = service.deleteEmployeeByName("Chirag");
 
         assertTrue(result);
+        assertEquals(List.of(new EmployeeDeletedEvent("Chirag")), events);
         verify(restTemplate, times(1))
-                .exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class));
+                .exchange(
+                        eq(baseUrl + "/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EmployeeDeleteResponseWrapper.class));
+    }
+
+    @Test
+    void testDeleteEmployeeByName_dataFalseReturnsFalse() {
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EmployeeDeleteResponseWrapper.class)))
+                .thenReturn(new ResponseEntity<>(deleteResponse(false), HttpStatus.OK));
+
+        boolean result = service.deleteEmployeeByName("NonExistent");
+
+        assertFalse(result);
+        assertTrue(events.isEmpty());
     }
 
     @Test
@@ -123,14 +267,22 @@ class EmployeeApiServiceTest {
                 HttpStatus.NOT_FOUND, "Not Found", headers, new byte[0], StandardCharsets.UTF_8);
 
         when(restTemplate.exchange(
-                        eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class)))
+                        eq(baseUrl + "/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EmployeeDeleteResponseWrapper.class)))
                 .thenThrow(notFoundException);
 
         boolean result = service.deleteEmployeeByName("NonExistent");
 
         assertFalse(result);
+        assertTrue(events.isEmpty());
         verify(restTemplate, times(1))
-                .exchange(eq(baseUrl + "/employee"), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class));
+                .exchange(
+                        eq(baseUrl + "/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EmployeeDeleteResponseWrapper.class));
     }
 
     @Test
@@ -144,6 +296,26 @@ class EmployeeApiServiceTest {
         assertEquals(cause, ex.getCause());
     }
 
+    @Test
+    void testRecoverFromSearchEmployeesByName_throws() {
+        Throwable cause = new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        ServiceUnavailableException ex = assertThrows(
+                ServiceUnavailableException.class, () -> service.recoverFromSearchEmployeesByName(cause, "chi"));
+
+        assertEquals(cause, ex.getCause());
+    }
+
+    @Test
+    void testRecoverFromGetEmployeeStats_throws() {
+        Throwable cause = new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        ServiceUnavailableException ex =
+                assertThrows(ServiceUnavailableException.class, () -> service.recoverFromGetEmployeeStats(cause));
+
+        assertEquals(cause, ex.getCause());
+    }
+
     @Test
     void testRecoverFromCreateEmployee_throws() {
         Throwable cause = new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -181,4 +353,10 @@ class EmployeeApiServiceTest {
         assertTrue(ex.getMessage().contains("Service is unavailable"));
         assertEquals(cause, ex.getCause());
     }
+
+    private static EmployeeDeleteResponseWrapper deleteResponse(boolean deleted) {
+        EmployeeDeleteResponseWrapper wrapper = new EmployeeDeleteResponseWrapper();
+        wrapper.setData(deleted);
+        return wrapper;
+    }
 }
@@ -0,0 +1,181 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.util.unit.DataSize;
+
+class EmployeeCacheTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testHit_doesNotReload(EmployeeCacheProperties.Eviction eviction) {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("1", id -> {
+            loads.incrementAndGet();
+            return employee(id, "Chirag");
+        });
+        EmployeeResponseDTO cached = cache.get("1", id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertEquals("Chirag", cached.getEmployee_name());
+        assertEquals(1, loads.get());
+        assertEquals(1, count("hit"));
+        assertEquals(1, count("miss"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testNotFound_cachedUntilNegativeTtl(EmployeeCacheProperties.Eviction eviction) throws InterruptedException {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofMillis(50));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("missing", id -> countedNull(loads)));
+        assertNull(cache.get("missing", id -> countedNull(loads)));
+        assertEquals(1, loads.get());
+        assertEquals(1, count("negative"));
+
+        Thread.sleep(100);
+        assertNull(cache.get("missing", id -> countedNull(loads)));
+        assertEquals(2, loads.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testPut_replacesNegativeEntry(EmployeeCacheProperties.Eviction eviction) {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+        cache.get("1", id -> null);
+
+        cache.put(employee("1", "Chirag"));
+
+        assertEquals("Chirag", cache.get("1", id -> null).getEmployee_name());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testInvalidateByName_ignoresCase(EmployeeCacheProperties.Eviction eviction) {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+        cache.put(employee("1", "Chirag"));
+        cache.put(employee("2", "John"));
+
+        cache.invalidateByName("chirag");
+
+        assertNull(cache.get("1", id -> null));
+        assertEquals("John", cache.get("2", id -> null).getEmployee_name());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testInvalidateAll_dropsPositiveAndNegativeEntries(EmployeeCacheProperties.Eviction eviction) {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+        cache.put(employee("1", "Chirag"));
+        cache.get("2", id -> null);
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("1", id -> null));
+        assertEquals("John", cache.get("2", id -> employee(id, "John")).getEmployee_name());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testDeleteDuringLoad_loadedEmployeeNotStored(EmployeeCacheProperties.Eviction eviction) throws Exception {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+
+        EmployeeResponseDTO loaded = whileLoading(cache, "1", employee("1", "Chirag"), () -> {
+            cache.invalidate("1");
+            cache.invalidateByName("Chirag");
+        });
+
+        assertEquals("Chirag", loaded.getEmployee_name());
+        assertEquals(0, cache.size());
+        assertNull(cache.get("1", id -> null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testCreateDuringLoad_negativeEntryNotStored(EmployeeCacheProperties.Eviction eviction) throws Exception {
+        EmployeeCache cache = cache(eviction, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+
+        assertNull(whileLoading(cache, "1", null, () -> cache.put(employee("1", "Chirag"))));
+
+        assertEquals("Chirag", cache.get("1", id -> null).getEmployee_name());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmployeeCacheProperties.Eviction.class)
+    void testMaxSize_evictsEntries(EmployeeCacheProperties.Eviction eviction) {
+        EmployeeCache cache = cache(eviction, DataSize.ofBytes(1024), Duration.ofSeconds(2));
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(employee(String.valueOf(i), "Employee " + i));
+        }
+        cache.get("0", id -> null);
+
+        assertTrue(cache.size() < 100);
+    }
+
+    private EmployeeCache cache(EmployeeCacheProperties.Eviction eviction, DataSize maxSize, Duration negativeTtl) {
+        return new EmployeeCache(
+                new EmployeeCacheProperties(true, eviction, maxSize, Duration.ofSeconds(30), negativeTtl),
+                meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("employee.api.cache.gets")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    /**
+     * Runs {@code change} while a lookup of {@code id} is loading {@code result}, and returns what the lookup returned.
+     */
+    private static EmployeeResponseDTO whileLoading(
+            EmployeeCache cache, String id, EmployeeResponseDTO result, Runnable change) throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        CompletableFuture<EmployeeResponseDTO> lookup = CompletableFuture.supplyAsync(() -> cache.get(id, key -> {
+            loading.countDown();
+            try {
+                assertTrue(changed.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        change.run();
+        changed.countDown();
+        return lookup.get(5, TimeUnit.SECONDS);
+    }
+
+    private static EmployeeResponseDTO countedNull(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return null;
+    }
+
+    private static EmployeeResponseDTO employee(String id, String name) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
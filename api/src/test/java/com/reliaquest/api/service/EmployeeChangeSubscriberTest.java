@@ -0,0 +1,132 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.ChangeStreamProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.tracing.Tracer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.*;
+
+class EmployeeChangeSubscriberTest {
+
+    HttpServer server;
+    UpstreamShards shards;
+    EmployeeDataset dataset = mock(EmployeeDataset.class);
+    EmployeeCache employeeCache = mock(EmployeeCache.class);
+    List<Object> events = new ArrayList<>();
+    List<Boolean> liveDuringEvents = new ArrayList<>();
+    List<String> lastEventIds = new CopyOnWriteArrayList<>();
+    volatile String body;
+    EmployeeChangeSubscriber subscriber;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/employee/changes", exchange -> {
+            lastEventIds.add(String.valueOf(exchange.getRequestHeaders().getFirst("Last-Event-ID")));
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+        shards = new UpstreamShards(
+                List.of("http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1"), 1, Tracer.NOOP);
+        subscriber = subscriber(true);
+    }
+
+    @AfterEach
+    void teardown() {
+        server.stop(0);
+        shards.shutdown();
+    }
+
+    @Test
+    void testStream_republishesChangesAndResumesFromLastId() throws Exception {
+        body = """
+                event: ready
+                id: 4
+                data: 4
+
+                event: created
+                id: 5
+                data: {"id":"1","employee_name":"Tiger Nixon","employee_salary":320800}
+
+                event: deleted
+                id: 6
+                data: {"id":"2","employee_name":"Garrett Winters"}
+
+                """;
+
+        String last = subscriber.stream(0, null);
+        subscriber.stream(0, last);
+
+        assertEquals("6", last);
+        assertEquals(List.of("null", "6"), lastEventIds);
+        EmployeeCreatedEvent created = (EmployeeCreatedEvent) events.get(0);
+        assertEquals("Tiger Nixon", created.employee().getEmployee_name());
+        assertEquals(320800, created.employee().getEmployee_salary());
+        assertEquals(new EmployeeDeletedEvent("Garrett Winters", "2"), events.get(1));
+        verify(employeeCache, times(2)).put(any());
+        verify(employeeCache, times(2)).invalidate("2");
+        verify(employeeCache, never()).invalidateAll();
+        verify(dataset, never()).refresh();
+    }
+
+    @Test
+    void testIsLive_onlyWhileEveryShardIsConnected() throws Exception {
+        body = """
+                event: created
+                id: 1
+                data: {"id":"1","employee_name":"Tiger Nixon"}
+
+                """;
+
+        assertFalse(subscriber.isLive());
+        subscriber.stream(0, null);
+
+        assertEquals(List.of(true), liveDuringEvents);
+        assertFalse(subscriber.isLive());
+        assertFalse(subscriber(false).isLive());
+    }
+
+    @Test
+    void testStream_resetDropsCacheAndRefetchesDataset() throws Exception {
+        body = """
+                event: reset
+                id: 9
+                data: 9
+
+                """;
+
+        assertEquals("9", subscriber.stream(0, "120"));
+
+        verify(employeeCache).invalidateAll();
+        verify(dataset).refresh();
+        assertTrue(events.isEmpty());
+    }
+
+    private EmployeeChangeSubscriber subscriber(boolean enabled) {
+        return new EmployeeChangeSubscriber(
+                shards,
+                new ChangeStreamProperties(
+                        enabled, Duration.ofSeconds(1), Duration.ofMillis(10), Duration.ofMillis(10)),
+                event -> {
+                    events.add(event);
+                    liveDuringEvents.add(subscriber.isLive());
+                },
+                dataset,
+                employeeCache,
+                new ObjectMapper());
+    }
+}
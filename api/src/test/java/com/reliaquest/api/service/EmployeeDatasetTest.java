@@ -0,0 +1,131 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.DatasetProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.mockito.*;
+
+class EmployeeDatasetTest {
+
+    @Mock
+    MockEmployeeApiService employeeService;
+
+    final List<String> notifications = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testCurrent_fetchesOnceWhileFresh() {
+        EmployeeDataset dataset = dataset(Duration.ofMinutes(1));
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee("1", "Chirag")));
+
+        EmployeeDataset.Snapshot first = dataset.current();
+        EmployeeDataset.Snapshot second = dataset.current();
+
+        assertSame(first, second);
+        assertEquals(1, first.version());
+        verify(employeeService, times(1)).getAllEmployees();
+        assertEquals(List.of("snapshot 1"), notifications);
+    }
+
+    @Test
+    void testCurrent_servesStaleCopyWhenRefreshFails() {
+        EmployeeDataset dataset = dataset(Duration.ZERO);
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(employee("1", "Chirag")))
+                .thenThrow(new ServiceUnavailableException("down", null));
+
+        EmployeeDataset.Snapshot loaded = dataset.current();
+
+        assertSame(loaded, dataset.current());
+        verify(employeeService, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void testChanges_applyToSnapshotAndNotifyListeners() {
+        EmployeeDataset dataset = dataset(Duration.ofMinutes(1));
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(employee("1", "Chirag"), employee("2", "Garrett Winters")));
+        dataset.current();
+
+        dataset.onCreated(new EmployeeCreatedEvent(employee("3", "Tiger Nixon")));
+        dataset.onDeleted(new EmployeeDeletedEvent("CHIRAG"));
+        dataset.onDeleted(new EmployeeDeletedEvent("Nobody"));
+
+        EmployeeDataset.Snapshot snapshot = dataset.current();
+        assertEquals(3, snapshot.version());
+        assertEquals(
+                List.of("Garrett Winters", "Tiger Nixon"),
+                snapshot.employees().stream()
+                        .map(EmployeeResponseDTO::getEmployee_name)
+                        .toList());
+        assertEquals(List.of("snapshot 2", "created Tiger Nixon", "deleted Chirag"), notifications);
+    }
+
+    @Test
+    void testChanges_fromWriteAndChangeStreamApplyOnce() {
+        EmployeeDataset dataset = dataset(Duration.ofMinutes(1));
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of(employee("1", "Chirag"), employee("2", "Chirag")));
+        dataset.current();
+
+        dataset.onCreated(new EmployeeCreatedEvent(employee("3", "Tiger Nixon")));
+        dataset.onCreated(new EmployeeCreatedEvent(employee("3", "Tiger Nixon")));
+        dataset.onDeleted(new EmployeeDeletedEvent("Chirag", "2"));
+        dataset.onDeleted(new EmployeeDeletedEvent("Chirag", "2"));
+
+        assertEquals(
+                List.of("1", "3"),
+                dataset.current().employees().stream()
+                        .map(EmployeeResponseDTO::getId)
+                        .toList());
+        assertEquals(List.of("snapshot 2", "created Tiger Nixon", "deleted Chirag"), notifications);
+    }
+
+    @Test
+    void testChanges_ignoredBeforeFirstFetch() {
+        EmployeeDataset dataset = dataset(Duration.ofMinutes(1));
+
+        dataset.onCreated(new EmployeeCreatedEvent(employee("3", "Tiger Nixon")));
+
+        assertTrue(notifications.isEmpty());
+    }
+
+    private EmployeeDataset dataset(Duration refreshInterval) {
+        EmployeeDataset dataset = new EmployeeDataset(employeeService, new DatasetProperties(refreshInterval));
+        dataset.addListener(new EmployeeDataset.Listener() {
+            @Override
+            public void onSnapshot(List<EmployeeResponseDTO> employees) {
+                notifications.add("snapshot " + employees.size());
+            }
+
+            @Override
+            public void onCreated(EmployeeResponseDTO employee) {
+                notifications.add("created " + employee.getEmployee_name());
+            }
+
+            @Override
+            public void onDeleted(EmployeeResponseDTO employee) {
+                notifications.add("deleted " + employee.getEmployee_name());
+            }
+        });
+        return dataset;
+    }
+
+    private static EmployeeResponseDTO employee(String id, String name) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
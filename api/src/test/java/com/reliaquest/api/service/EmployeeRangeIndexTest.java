@@ -0,0 +1,112 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.RangeQueryProperties;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.InvalidRequestException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+
+class EmployeeRangeIndexTest {
+
+    EmployeeDataset dataset = mock(EmployeeDataset.class);
+
+    EmployeeRangeIndex index = new EmployeeRangeIndex(dataset, new RangeQueryProperties(2, 3));
+
+    @BeforeEach
+    void setup() {
+        index.onSnapshot(List.of(
+                employee("a", 100, 25),
+                employee("b", 300, 41),
+                employee("c", 200, 35),
+                employee("d", 200, 30),
+                employee("e", 500, 60)));
+    }
+
+    @Test
+    void testRange_pagesInValueOrder() {
+        EmployeePageDTO first = index.range(EmployeeRangeIndex.Field.SALARY, 150, 400, null, null);
+        EmployeePageDTO second = index.range(EmployeeRangeIndex.Field.SALARY, 150, 400, null, first.getNextCursor());
+
+        assertEquals(List.of("c", "d"), ids(first));
+        assertEquals("200:d", first.getNextCursor());
+        assertEquals(List.of("b"), ids(second));
+        assertNull(second.getNextCursor());
+        verify(dataset, times(2)).current();
+    }
+
+    @Test
+    void testRange_openBoundsAndPageSizeCap() {
+        EmployeePageDTO page = index.range(EmployeeRangeIndex.Field.AGE, null, 40, 10, null);
+
+        assertEquals(List.of("a", "d", "c"), ids(page));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testRange_followsCreatesAndDeletes() {
+        EmployeeResponseDTO created = employee("f", 250, 38);
+        index.onCreated(created);
+        index.onDeleted(employee("c", 200, 35));
+
+        assertEquals(
+                List.of("d", "f", "b"), ids(index.range(EmployeeRangeIndex.Field.SALARY, 150, 400, 3, null)));
+        assertEquals(List.of("f", "b"), ids(index.range(EmployeeRangeIndex.Field.AGE, 36, 45, 3, null)));
+    }
+
+    @Test
+    void testRange_rejectsBadCursorAndLimit() {
+        assertThrows(
+                InvalidRequestException.class,
+                () -> index.range(EmployeeRangeIndex.Field.SALARY, null, null, null, "nope"));
+        assertThrows(
+                InvalidRequestException.class, () -> index.range(EmployeeRangeIndex.Field.SALARY, null, null, 0, null));
+    }
+
+    @Test
+    void testRange_matchesFilteringEveryEmployee() {
+        Random random = new Random(7);
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            employees.add(employee(String.format("%03d", i), random.nextInt(100), random.nextInt(50)));
+        }
+        index.onSnapshot(employees);
+
+        for (int query = 0; query < 50; query++) {
+            int min = random.nextInt(100);
+            int max = min + random.nextInt(30);
+            List<String> expected = employees.stream()
+                    .filter(employee -> employee.getEmployee_salary() >= min && employee.getEmployee_salary() <= max)
+                    .sorted(Comparator.comparing(EmployeeResponseDTO::getEmployee_salary)
+                            .thenComparing(EmployeeResponseDTO::getId))
+                    .map(EmployeeResponseDTO::getId)
+                    .toList();
+            List<String> paged = new ArrayList<>();
+            String cursor = null;
+            do {
+                EmployeePageDTO page = index.range(EmployeeRangeIndex.Field.SALARY, min, max, null, cursor);
+                paged.addAll(ids(page));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+            assertEquals(expected, paged);
+        }
+    }
+
+    private static List<String> ids(EmployeePageDTO page) {
+        return page.getEmployees().stream().map(EmployeeResponseDTO::getId).toList();
+    }
+
+    private static EmployeeResponseDTO employee(String id, int salary, int age) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(id);
+        employee.setEmployee_salary(salary);
+        employee.setEmployee_age(age);
+        return employee;
+    }
+}
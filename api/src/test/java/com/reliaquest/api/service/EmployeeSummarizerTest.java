@@ -0,0 +1,115 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.SummaryProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeSummaryDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import org.mockito.*;
+
+class EmployeeSummarizerTest {
+
+    @Mock
+    EmployeeDataset dataset;
+
+    EmployeeSummarizer summarizer;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        summarizer = new EmployeeSummarizer(dataset, new SummaryProperties(2, 3), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testSummarize_computesEverythingFromOneSnapshot() {
+        givenEmployees(
+                employee("1", "Chirag Patel", 100),
+                employee("2", "Tiger Nixon", 300),
+                employee("3", "Bill Bob", null),
+                employee("4", "Pat Tiger", 200));
+
+        EmployeeSummaryDTO summary = summarizer.summarize(null, "TIGER");
+
+        assertEquals(4, summary.getCount());
+        assertEquals(300, summary.getHighestSalary());
+        assertEquals(List.of("Tiger Nixon", "Pat Tiger"), summary.getTopEarnerNames());
+        assertEquals(
+                List.of("2", "4"),
+                summary.getSearchHits().stream().map(EmployeeResponseDTO::getId).toList());
+        assertEquals(7, summary.getDatasetVersion());
+        verify(dataset, times(1)).current();
+    }
+
+    @Test
+    void testSummarize_capsTopAndSkipsSearchWhenBlank() {
+        givenEmployees(
+                employee("1", "A", 1), employee("2", "B", 2), employee("3", "C", 3), employee("4", "D", 4));
+
+        EmployeeSummaryDTO summary = summarizer.summarize(10, " ");
+
+        assertEquals(List.of("D", "C", "B"), summary.getTopEarnerNames());
+        assertNull(summary.getSearchHits());
+    }
+
+    @Test
+    void testSummarize_emptyDataset() {
+        givenEmployees();
+
+        EmployeeSummaryDTO summary = summarizer.summarize(0, "x");
+
+        assertEquals(0, summary.getCount());
+        assertEquals(0, summary.getHighestSalary());
+        assertEquals(List.of(), summary.getTopEarnerNames());
+        assertEquals(List.of(), summary.getSearchHits());
+    }
+
+    @Test
+    void testSummarize_matchesSortingTheWholeDataset() {
+        Random random = new Random(7);
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            employees.add(employee(String.valueOf(i), "Employee " + i, random.nextInt(1000)));
+        }
+        givenEmployees(employees.toArray(EmployeeResponseDTO[]::new));
+
+        EmployeeSummaryDTO summary = summarizer.summarize(3, "7");
+
+        List<String> expectedTop = employees.stream()
+                .sorted(Comparator.comparing(EmployeeResponseDTO::getEmployee_salary, Comparator.reverseOrder())
+                        .thenComparing(EmployeeResponseDTO::getEmployee_name))
+                .limit(3)
+                .map(EmployeeResponseDTO::getEmployee_name)
+                .toList();
+        assertEquals(expectedTop, summary.getTopEarnerNames());
+        assertEquals(
+                employees.stream()
+                        .mapToInt(EmployeeResponseDTO::getEmployee_salary)
+                        .max()
+                        .orElseThrow(),
+                summary.getHighestSalary());
+        assertEquals(
+                employees.stream()
+                        .filter(employee -> employee.getEmployee_name().contains("7"))
+                        .count(),
+                summary.getSearchHits().size());
+    }
+
+    private void givenEmployees(EmployeeResponseDTO... employees) {
+        when(dataset.current()).thenReturn(new EmployeeDataset.Snapshot(7, List.of(employees), System.nanoTime()));
+    }
+
+    private static EmployeeResponseDTO employee(String id, String name, Integer salary) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.WarmUpProperties;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.mockito.*;
+
+class EmployeeWarmUpTest {
+
+    @Mock
+    EmployeeDataset dataset;
+
+    @Mock
+    EmployeeCache cache;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testWarmUp_retriesUntilLoadedAndPrimesCache() {
+        EmployeeResponseDTO employee = employee("1", "Chirag");
+        when(dataset.refresh())
+                .thenThrow(new ServiceUnavailableException("down", null))
+                .thenThrow(new ServiceUnavailableException("down", null))
+                .thenReturn(new EmployeeDataset.Snapshot(1, List.of(employee), System.nanoTime()));
+
+        boolean warmed = warmUp(Duration.ofSeconds(10)).warmUp();
+
+        assertTrue(warmed);
+        verify(dataset, times(3)).refresh();
+        verify(cache).put(employee);
+        assertEquals(1, timerCount("warmed"));
+    }
+
+    @Test
+    void testWarmUp_givesUpAtTimeout() {
+        when(dataset.refresh()).thenThrow(new ServiceUnavailableException("down", null));
+
+        long start = System.nanoTime();
+        boolean warmed = warmUp(Duration.ofMillis(200)).warmUp();
+
+        assertFalse(warmed);
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        verifyNoInteractions(cache);
+        assertEquals(1, timerCount("timed_out"));
+    }
+
+    @Test
+    void testRun_skipsWhenDisabled() {
+        new EmployeeWarmUp(dataset, cache, properties(false, Duration.ofSeconds(1)), meterRegistry).run(null);
+
+        verifyNoInteractions(dataset);
+    }
+
+    private EmployeeWarmUp warmUp(Duration timeout) {
+        return new EmployeeWarmUp(dataset, cache, properties(true, timeout), meterRegistry);
+    }
+
+    private static WarmUpProperties properties(boolean enabled, Duration timeout) {
+        return new WarmUpProperties(enabled, timeout, Duration.ofMillis(5), Duration.ofMillis(20), true);
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry
+                .get("employee.api.warm_up")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static EmployeeResponseDTO employee(String id, String name) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.WriteBehindProperties;
+import com.reliaquest.api.dto.CreateTicketDTO;
+import com.reliaquest.api.dto.EmployeeInputDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.*;
+import org.mockito.*;
+
+class EmployeeWriteBehindQueueTest {
+
+    @Mock
+    MockEmployeeApiService employeeService;
+
+    EmployeeWriteBehindQueue queue;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        queue = new EmployeeWriteBehindQueue(
+                employeeService,
+                new WriteBehindProperties(
+                        2, 10, Duration.ofMillis(10), Duration.ofMillis(50), 3, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.stop();
+    }
+
+    @Test
+    void testSubmit_createsUpstream() throws InterruptedException {
+        EmployeeInputDTO input = new EmployeeInputDTO("Chirag", 1000, 24, "Test");
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        created.setEmployee_name("Chirag");
+        when(employeeService.createEmployee(eq(input), anyString())).thenReturn(created);
+        queue.start();
+
+        CreateTicketDTO ticket = queue.submit(input);
+
+        assertEquals(CreateTicketDTO.Status.QUEUED, ticket.getStatus());
+        CreateTicketDTO done = awaitCompletion(ticket.getToken());
+        assertEquals(CreateTicketDTO.Status.CREATED, done.getStatus());
+        assertSame(created, done.getEmployee());
+    }
+
+    @Test
+    void testSubmit_retriesWhileUpstreamThrottles() throws InterruptedException {
+        EmployeeInputDTO input = new EmployeeInputDTO("Chirag", 1000, 24, "Test");
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        when(employeeService.createEmployee(eq(input), anyString()))
+                .thenThrow(new ServiceUnavailableException("throttled", new RuntimeException()))
+                .thenReturn(created);
+        queue.start();
+
+        CreateTicketDTO ticket = queue.submit(input);
+        CreateTicketDTO done = awaitCompletion(ticket.getToken());
+
+        assertEquals(CreateTicketDTO.Status.CREATED, done.getStatus());
+        // Both attempts carry the same idempotency key, so the upstream creates the employee at most once.
+        verify(employeeService, times(2)).createEmployee(input, ticket.getToken());
+    }
+
+    @Test
+    void testSubmit_failsAfterMaxAttempts() throws InterruptedException {
+        EmployeeInputDTO input = new EmployeeInputDTO("Chirag", 1000, 24, "Test");
+        when(employeeService.createEmployee(eq(input), anyString()))
+                .thenThrow(new ServiceUnavailableException("throttled", new RuntimeException()));
+        queue.start();
+
+        CreateTicketDTO done = awaitCompletion(queue.submit(input).getToken());
+
+        assertEquals(CreateTicketDTO.Status.FAILED, done.getStatus());
+        assertEquals("throttled", done.getError());
+        verify(employeeService, times(3)).createEmployee(eq(input), anyString());
+    }
+
+    @Test
+    void testSubmit_rejectsWhenFull() {
+        EmployeeInputDTO input = new EmployeeInputDTO("Chirag", 1000, 24, "Test");
+
+        queue.submit(input);
+        queue.submit(input);
+
+        assertThrows(WriteQueueFullException.class, () -> queue.submit(input));
+    }
+
+    private CreateTicketDTO awaitCompletion(String token) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            CreateTicketDTO ticket = queue.getTicket(token).orElseThrow();
+            if (ticket.getCompletedAt() != null) {
+                return ticket;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Create " + token + " did not complete");
+    }
+}
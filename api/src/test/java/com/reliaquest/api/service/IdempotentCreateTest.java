@@ -0,0 +1,242 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.config.RetryProperties;
+import com.reliaquest.api.dto.EmployeeInputDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.*;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Runs creates against a stub mock server that commits each new create and then fails to deliver the response, either
+ * with a 503 or by dropping the connection, and deduplicates creates by {@code Idempotency-Key} as the mock server
+ * does.
+ */
+class IdempotentCreateTest {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    FlakyShard stub;
+    UpstreamShards shards;
+    MockEmployeeApiService service;
+
+    @BeforeEach
+    void setup() throws IOException {
+        stub = new FlakyShard();
+        shards = new UpstreamShards(List.of(stub.baseUrl()), 4, Tracer.NOOP);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgingProperties hedging = new HedgingProperties(
+                false, 0.95, Duration.ofMillis(50), Duration.ofMillis(250), 0.1, Duration.ofSeconds(5), 4);
+        EmployeeCacheProperties cache = new EmployeeCacheProperties(
+                false,
+                EmployeeCacheProperties.Eviction.TINY_LFU,
+                DataSize.ofMegabytes(1),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(2));
+        RetryProperties retry = new RetryProperties(
+                new RetryProperties.Policy(
+                        20, Duration.ofMillis(1), 1.0, Duration.ofMillis(1), 0.0, Duration.ofSeconds(30)),
+                Map.of(),
+                1.0,
+                1000);
+        service = new MockEmployeeApiService(
+                new RestTemplate(new DeadlineAwareRequestFactory(Duration.ofSeconds(2), Duration.ofSeconds(5))),
+                shards,
+                new RequestHedger(hedging, meterRegistry, Tracer.NOOP),
+                new UpstreamRetrier(retry, meterRegistry, Tracer.NOOP),
+                new EmployeeCache(cache, meterRegistry),
+                event -> {});
+    }
+
+    @AfterEach
+    void teardown() {
+        stub.server.stop(0);
+        shards.shutdown();
+    }
+
+    @Test
+    void testServerErrorAfterCommit_retriedWithSameKey_createdOnce() {
+        stub.failures = List.of(Failure.SERVER_ERROR, Failure.SERVER_ERROR);
+
+        EmployeeResponseDTO created = service.createEmployee(new EmployeeInputDTO("Chirag", 1000, 24, "Test"));
+
+        assertEquals(3, stub.keys.size());
+        assertEquals(1, Set.copyOf(stub.keys).size());
+        assertEquals(1, stub.employees.size());
+        assertEquals(stub.employees.values().iterator().next().getId(), created.getId());
+    }
+
+    @Test
+    void testConnectionDroppedAfterCommit_retriedWithSameKey_createdOnce() {
+        stub.failures = List.of(Failure.DROP_CONNECTION);
+
+        EmployeeResponseDTO created = service.createEmployee(new EmployeeInputDTO("Chirag", 1000, 24, "Test"));
+
+        assertEquals(2, stub.keys.size());
+        assertEquals(1, Set.copyOf(stub.keys).size());
+        assertEquals(1, stub.employees.size());
+        assertEquals(stub.employees.values().iterator().next().getId(), created.getId());
+    }
+
+    @Test
+    void testCallerSuppliedKey_reusedAcrossCalls_createdOnce() {
+        EmployeeInputDTO input = new EmployeeInputDTO("Chirag", 1000, 24, "Test");
+
+        EmployeeResponseDTO first = service.createEmployee(input, "ticket-1");
+        EmployeeResponseDTO second = service.createEmployee(input, "ticket-1");
+        service.createEmployee(input);
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(2, stub.employees.size());
+    }
+
+    @Test
+    void testConcurrentCreates_withInjectedFailures_eachCreatedOnce() throws Exception {
+        stub.failureRate = 0.4;
+        int threads = 8;
+        int createsPerThread = 25;
+        ExecutorService callers = Executors.newFixedThreadPool(threads);
+        List<Future<List<EmployeeResponseDTO>>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int caller = t;
+                results.add(callers.submit(() -> {
+                    List<EmployeeResponseDTO> created = new ArrayList<>();
+                    for (int i = 0; i < createsPerThread; i++) {
+                        created.add(service.createEmployee(
+                                new EmployeeInputDTO("Employee " + caller + "-" + i, 1000 + i, 30, "Test")));
+                    }
+                    return created;
+                }));
+            }
+            List<EmployeeResponseDTO> created = new ArrayList<>();
+            for (Future<List<EmployeeResponseDTO>> result : results) {
+                created.addAll(result.get(60, TimeUnit.SECONDS));
+            }
+
+            int creates = threads * createsPerThread;
+            assertTrue(stub.injected.get() > 0, "no failures were injected");
+            assertTrue(stub.keys.size() > creates, "no create was retried");
+            assertEquals(creates, Set.copyOf(stub.keys).size());
+            assertEquals(creates, stub.employees.size());
+            assertEquals(
+                    stub.employees.values().stream()
+                            .map(EmployeeResponseDTO::getId)
+                            .collect(Collectors.toSet()),
+                    created.stream().map(EmployeeResponseDTO::getId).collect(Collectors.toSet()));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    enum Failure {
+        SERVER_ERROR,
+        DROP_CONNECTION
+    }
+
+    /**
+     * Creates an employee per new {@code Idempotency-Key} and answers repeats with it. Having done so it fails the
+     * response as scripted by {@code failures}, then at random with probability {@code failureRate}.
+     */
+    static class FlakyShard {
+
+        final HttpServer server;
+        final Map<String, EmployeeResponseDTO> employees = new ConcurrentHashMap<>();
+        final List<String> keys = new CopyOnWriteArrayList<>();
+        final AtomicInteger injected = new AtomicInteger();
+        final SplittableRandom random = new SplittableRandom(42);
+        volatile List<Failure> failures = List.of();
+        volatile double failureRate;
+
+        FlakyShard() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v1/employee", this::handle);
+            server.setExecutor(Executors.newFixedThreadPool(8));
+            server.start();
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1";
+        }
+
+        void handle(HttpExchange exchange) throws IOException {
+            String key = exchange.getRequestHeaders().getFirst(MockEmployeeApiService.IDEMPOTENCY_KEY);
+            EmployeeInputDTO input = MAPPER.readValue(exchange.getRequestBody(), EmployeeInputDTO.class);
+            keys.add(key);
+            EmployeeResponseDTO employee = employees.computeIfAbsent(
+                    key,
+                    ignored -> new EmployeeResponseDTO(
+                            UUID.randomUUID().toString(),
+                            input.getName(),
+                            input.getSalary(),
+                            input.getAge(),
+                            input.getTitle(),
+                            null));
+            Failure failure = nextFailure();
+            if (failure == Failure.SERVER_ERROR) {
+                respond(exchange, 503, null);
+            } else if (failure == Failure.DROP_CONNECTION) {
+                // Promise a body, send only the headers, then close so the client sees the connection drop.
+                exchange.sendResponseHeaders(200, 1024);
+                exchange.getResponseBody().flush();
+                exchange.close();
+            } else {
+                respond(exchange, 200, employee);
+            }
+        }
+
+        synchronized Failure nextFailure() {
+            if (injected.get() < failures.size()) {
+                return failures.get(injected.getAndIncrement());
+            }
+            if (failureRate > 0 && random.nextDouble() < failureRate) {
+                injected.incrementAndGet();
+                return random.nextBoolean() ? Failure.SERVER_ERROR : Failure.DROP_CONNECTION;
+            }
+            return null;
+        }
+
+        static void respond(HttpExchange exchange, int status, Object data) {
+            try {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("data", data);
+                body.put("status", status == 200 ? "Successfully processed request." : "Failed.");
+                byte[] bytes = MAPPER.writeValueAsBytes(body);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
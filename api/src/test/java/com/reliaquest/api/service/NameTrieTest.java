@@ -0,0 +1,120 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameTrieTest {
+
+    NameTrie trie = new NameTrie(3);
+
+    @Test
+    void testComplete_matchesAnyWordAlphabetically() {
+        trie.add(employee("1", "Tiger Nixon", 320));
+        trie.add(employee("2", "Garrett Winters", 170));
+        trie.add(employee("3", "Tim Nixon", 90));
+
+        assertEquals(List.of("Tiger Nixon", "Tim Nixon"), trie.complete("TI", 10, false));
+        assertEquals(List.of("Tiger Nixon", "Tim Nixon"), trie.complete("nix", 10, false));
+        assertEquals(List.of("Garrett Winters"), trie.complete("garrett w", 10, false));
+        assertEquals(List.of("Tiger Nixon"), trie.complete("ti", 1, false));
+        assertEquals(List.of(), trie.complete("tix", 10, false));
+    }
+
+    @Test
+    void testComplete_bySalaryReturnsHighestEarnersFirst() {
+        trie.add(employee("1", "Ann Low", 10));
+        trie.add(employee("2", "Anna High", 300));
+        trie.add(employee("3", "Annabel Mid", 200));
+        trie.add(employee("4", "Anne Top", 400));
+
+        assertEquals(List.of("Anne Top", "Anna High", "Annabel Mid"), trie.complete("ann", 10, true));
+        assertEquals(List.of("Anna High", "Annabel Mid"), trie.complete("anna", 10, true));
+    }
+
+    @Test
+    void testRemove_restoresRankingAndPrunesNodes() {
+        EmployeeResponseDTO top = employee("4", "Anne Top", 400);
+        trie.add(employee("1", "Ann Low", 10));
+        trie.add(employee("2", "Anna High", 300));
+        trie.add(top);
+
+        trie.remove(top);
+
+        assertEquals(List.of("Anna High", "Ann Low"), trie.complete("an", 10, true));
+        assertEquals(List.of(), trie.complete("anne", 10, false));
+        assertEquals(List.of(), trie.complete("top", 10, false));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void testMatchesBruteForceUnderRandomChanges() {
+        Random random = new Random(42);
+        String[] words = {"al", "alan", "alba", "b", "bo", "bob", "bobby", "carl", "carla", "car"};
+        List<EmployeeResponseDTO> present = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (present.isEmpty() || random.nextInt(3) > 0) {
+                String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                EmployeeResponseDTO employee = employee(Integer.toString(i), name, random.nextInt(50));
+                present.add(employee);
+                trie.add(employee);
+            } else {
+                trie.remove(present.remove(random.nextInt(present.size())));
+            }
+            String word = words[random.nextInt(words.length)];
+            String prefix = word.substring(0, 1 + random.nextInt(word.length()));
+            assertEquals(expected(present, prefix, true), trie.complete(prefix, 3, true), "prefix " + prefix);
+            assertEquals(expected(present, prefix, false), trie.complete(prefix, 3, false), "prefix " + prefix);
+        }
+        assertEquals(present.size(), trie.size());
+    }
+
+    private static List<String> expected(List<EmployeeResponseDTO> employees, String prefix, boolean bySalary) {
+        record Match(String key, EmployeeResponseDTO employee) {}
+        List<Match> matches = new ArrayList<>();
+        for (EmployeeResponseDTO employee : employees) {
+            String name = employee.getEmployee_name().toLowerCase(Locale.ROOT);
+            for (int i = 0; i < name.length(); i++) {
+                if ((i == 0 || name.charAt(i - 1) == ' ') && name.startsWith(prefix, i)) {
+                    matches.add(new Match(name.substring(i), employee));
+                }
+            }
+        }
+        matches.sort(
+                bySalary
+                        ? Comparator.comparing(Match::employee, NameTrie.BY_SALARY)
+                        : Comparator.comparing(Match::key));
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        if (bySalary) {
+            // Salary ranking draws from the three highest-earning employees, whose names may repeat.
+            matches.stream()
+                    .map(Match::employee)
+                    .distinct()
+                    .limit(3)
+                    .forEach(employee -> names.add(employee.getEmployee_name()));
+        } else {
+            for (Match match : matches) {
+                if (names.size() == 3) {
+                    break;
+                }
+                names.add(match.employee().getEmployee_name());
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    private static EmployeeResponseDTO employee(String id, String name, int salary) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class PreferBinaryInterceptorTest {
+
+    static final URI EMPLOYEES = URI.create("http://mock-api/employee");
+
+    PreferBinaryInterceptor interceptor = new PreferBinaryInterceptor();
+
+    @Test
+    void testSmileReadable_prefersSmile() throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES);
+        request.getHeaders()
+                .setAccept(List.of(
+                        MediaType.APPLICATION_JSON, PreferBinaryInterceptor.APPLICATION_SMILE, MediaType.ALL));
+
+        interceptor.intercept(request, new byte[0], (req, body) -> new MockClientHttpResponse());
+
+        List<MediaType> accept = request.getHeaders().getAccept();
+        assertEquals(PreferBinaryInterceptor.APPLICATION_SMILE, accept.get(0));
+        assertTrue(accept.get(1).isCompatibleWith(MediaType.APPLICATION_JSON));
+        assertEquals(0.5, accept.get(1).getQualityValue());
+    }
+
+    @Test
+    void testSmileNotReadable_leavesAcceptAlone() throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, EMPLOYEES);
+        request.getHeaders().setAccept(List.of(MediaType.TEXT_PLAIN));
+
+        interceptor.intercept(request, new byte[0], (req, body) -> new MockClientHttpResponse());
+
+        assertEquals(List.of(MediaType.TEXT_PLAIN), request.getHeaders().getAccept());
+    }
+}
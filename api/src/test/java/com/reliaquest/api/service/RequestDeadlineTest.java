@@ -0,0 +1,191 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.config.RetryProperties;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.*;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Runs the service against stub mock servers that answer 503 or hang, to show that a request whose deadline passes
+ * gives up promptly and leaves no upstream calls running.
+ */
+class RequestDeadlineTest {
+
+    final CountDownLatch release = new CountDownLatch(1);
+    List<SlowShard> stubs;
+    UpstreamShards shards;
+    RequestHedger hedger;
+    MockEmployeeApiService service;
+
+    @AfterEach
+    void teardown() {
+        release.countDown();
+        stubs.forEach(stub -> stub.server.stop(0));
+        shards.shutdown();
+        hedger.shutdown();
+        assertNull(RequestDeadline.current());
+    }
+
+    @Test
+    void testHangingShards_abandonedAtDeadline() throws Exception {
+        setup(3, false, 0);
+
+        long elapsed = timedUnderDeadline(Duration.ofMillis(300), () -> assertThrows(
+                DeadlineExceededException.class, () -> service.getAllEmployees()));
+
+        assertTrue(elapsed < 1500, "took " + elapsed + " ms");
+        assertEquals(3, requests());
+        awaitZero(shards::activeCalls);
+    }
+
+    @Test
+    void testHangingHedgedRead_abandonedAtDeadline() throws Exception {
+        setup(1, true, 0);
+
+        long elapsed = timedUnderDeadline(Duration.ofMillis(300), () -> assertThrows(
+                DeadlineExceededException.class, () -> service.getAllEmployees()));
+
+        assertTrue(elapsed < 1500, "took " + elapsed + " ms");
+        awaitZero(hedger::activeCalls);
+    }
+
+    @Test
+    void testFailingShard_notRetriedPastDeadline() throws Exception {
+        setup(1, false, 20);
+
+        long elapsed = timedUnderDeadline(Duration.ofMillis(300), () -> assertThrows(
+                RuntimeException.class, () -> service.getAllEmployees()));
+
+        // Each retry waits 200 ms, so a second one would overrun the deadline.
+        assertTrue(elapsed < 1500, "took " + elapsed + " ms");
+        assertTrue(requests() <= 2, "made " + requests() + " requests");
+    }
+
+    @Test
+    void testWithoutDeadline_failingShardRetriedAsConfigured() throws Exception {
+        setup(1, false, 3);
+
+        assertThrows(RuntimeException.class, () -> service.getAllEmployees());
+
+        assertEquals(3, requests());
+    }
+
+    void setup(int shardCount, boolean hedging, int failures) throws IOException {
+        stubs = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            stubs.add(new SlowShard(failures));
+        }
+        shards = new UpstreamShards(stubs.stream().map(SlowShard::baseUrl).toList(), 4, Tracer.NOOP);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hedger = new RequestHedger(
+                new HedgingProperties(
+                        hedging, 0.95, Duration.ofMillis(50), Duration.ofMillis(50), 0.1, Duration.ofSeconds(5), 4),
+                meterRegistry,
+                Tracer.NOOP);
+        EmployeeCacheProperties cache = new EmployeeCacheProperties(
+                false,
+                EmployeeCacheProperties.Eviction.TINY_LFU,
+                DataSize.ofMegabytes(1),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(2));
+        RetryProperties retry = new RetryProperties(
+                new RetryProperties.Policy(
+                        Math.max(1, failures),
+                        Duration.ofMillis(200),
+                        1.0,
+                        Duration.ofSeconds(1),
+                        0.0,
+                        Duration.ofSeconds(30)),
+                Map.of(),
+                0.2,
+                100);
+        service = new MockEmployeeApiService(
+                new RestTemplate(new DeadlineAwareRequestFactory(Duration.ofSeconds(2), Duration.ofSeconds(10))),
+                shards,
+                hedger,
+                new UpstreamRetrier(retry, meterRegistry, Tracer.NOOP),
+                new EmployeeCache(cache, meterRegistry),
+                event -> {});
+    }
+
+    static long timedUnderDeadline(Duration timeout, Runnable call) {
+        long start = System.nanoTime();
+        try (RequestDeadline.Scope ignored = RequestDeadline.after(timeout).attach()) {
+            call.run();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    static void awaitZero(IntSupplier active) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (active.getAsInt() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, active.getAsInt());
+    }
+
+    int requests() {
+        return stubs.stream().mapToInt(stub -> stub.requests.get()).sum();
+    }
+
+    /**
+     * Answers 503 to its first {@code failures} requests and hangs on the rest until the test ends.
+     */
+    class SlowShard {
+
+        final HttpServer server;
+        final AtomicInteger requests = new AtomicInteger();
+        final int failures;
+
+        SlowShard(int failures) throws IOException {
+            this.failures = failures;
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v1/employee", this::handle);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1";
+        }
+
+        void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (requests.incrementAndGet() <= failures) {
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+                release.await(10, TimeUnit.SECONDS);
+                byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class RequestHedgerTest {
+
+    SimpleMeterRegistry meterRegistry;
+    RequestHedger hedger;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        hedger = new RequestHedger(properties(true, 1.0), meterRegistry, Tracer.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void testDisabled_runsOnceOnCallerThread() {
+        RequestHedger disabled = new RequestHedger(properties(false, 1.0), meterRegistry, Tracer.NOOP);
+        Thread caller = Thread.currentThread();
+
+        String result = disabled.execute("read", () -> Thread.currentThread() == caller ? "caller" : "pool");
+
+        assertEquals("caller", result);
+        assertEquals(0, hedgeCount("sent"));
+        disabled.shutdown();
+    }
+
+    @Test
+    void testSlowPrimary_hedgeWins() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = hedger.execute("read", () -> {
+            if (attempts.getAndIncrement() == 0) {
+                sleep(2000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500);
+        assertEquals(1, hedgeCount("sent"));
+        assertEquals(1, hedgeCount("won"));
+    }
+
+    @Test
+    void testFastPrimary_noHedge() {
+        assertEquals("primary", hedger.execute("read", () -> "primary"));
+        assertEquals(0, hedgeCount("sent"));
+    }
+
+    @Test
+    void testExhaustedBudget_suppressesHedge() {
+        RequestHedger stingy = new RequestHedger(properties(true, 0.0), meterRegistry, Tracer.NOOP);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = stingy.execute("read", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1, hedgeCount("suppressed"));
+        stingy.shutdown();
+    }
+
+    @Test
+    void testRateLimited_suppressesLaterHedges() {
+        HttpClientErrorException tooManyRequests = HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests",
+                new HttpHeaders(),
+                new byte[0],
+                StandardCharsets.UTF_8);
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> hedger.execute("read", () -> {
+            throw tooManyRequests;
+        }));
+
+        AtomicInteger attempts = new AtomicInteger();
+        hedger.execute("read", () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, hedgeCount("sent"));
+    }
+
+    @Test
+    void testBothAttemptsFail_rethrowsUpstreamException() {
+        HttpServerErrorException failure = new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        HttpServerErrorException thrown =
+                assertThrows(HttpServerErrorException.class, () -> hedger.execute("read", () -> {
+                    sleep(50);
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+    }
+
+    private double hedgeCount(String outcome) {
+        return meterRegistry
+                .get("employee.api.upstream.hedges")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static HedgingProperties properties(boolean enabled, double budgetRatio) {
+        return new HedgingProperties(
+                enabled, 0.95, Duration.ofMillis(10), Duration.ofMillis(20), budgetRatio, Duration.ofSeconds(5), 4);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
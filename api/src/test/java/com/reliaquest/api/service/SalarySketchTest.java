@@ -0,0 +1,66 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SalarySketchTest {
+
+    @Test
+    void testSmallValuesAreExact() {
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1; salary <= 100; salary++) {
+            sketch.add(salary);
+        }
+
+        assertEquals(100, sketch.count());
+        assertEquals(50.5, sketch.mean());
+        assertEquals(50, sketch.percentile(0.5));
+        assertEquals(90, sketch.percentile(0.9));
+        assertEquals(99, sketch.percentile(0.99));
+    }
+
+    @Test
+    void testPercentilesWithinRelativeError() {
+        Random random = new Random(11);
+        int[] salaries = new int[10_000];
+        SalarySketch sketch = new SalarySketch();
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 20_000 + random.nextInt(500_000);
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        for (double percentile : new double[] {0.5, 0.9, 0.99}) {
+            int exact = salaries[(int) Math.ceil(percentile * salaries.length) - 1];
+            assertEquals(exact, sketch.percentile(percentile), exact / 64.0, "p" + percentile);
+        }
+    }
+
+    @Test
+    void testRemoveAndMerge() {
+        SalarySketch engineers = new SalarySketch();
+        engineers.add(100_000);
+        engineers.add(200_000);
+        engineers.remove(200_000);
+        engineers.remove(300_000);
+        SalarySketch managers = new SalarySketch();
+        managers.add(300_000);
+
+        engineers.merge(managers);
+
+        assertEquals(2, engineers.count());
+        assertEquals(200_000, engineers.mean());
+        assertEquals(100_000, engineers.percentile(0.5), 100_000 / 64.0);
+        assertEquals(300_000, engineers.percentile(0.99), 300_000 / 64.0);
+    }
+
+    @Test
+    void testBucketsCoverEveryInt() {
+        assertEquals(SalarySketch.BUCKETS - 1, SalarySketch.bucket(Integer.MAX_VALUE));
+        assertEquals(0, SalarySketch.bucket(-5));
+        assertTrue(SalarySketch.midpoint(SalarySketch.BUCKETS - 1) > 0);
+    }
+}
@@ -0,0 +1,293 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.config.RetryProperties;
+import com.reliaquest.api.dto.EmployeeInputDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeStatsDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.*;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Runs the service against three stub mock servers on random local ports.
+ */
+class ShardedEmployeeApiServiceTest {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    List<StubShard> stubs;
+    UpstreamShards shards;
+    MockEmployeeApiService service;
+
+    @BeforeEach
+    void setup() throws IOException {
+        stubs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            stubs.add(new StubShard());
+        }
+        shards = new UpstreamShards(stubs.stream().map(StubShard::baseUrl).toList(), 4, Tracer.NOOP);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgingProperties hedging = new HedgingProperties(
+                false, 0.95, Duration.ofMillis(50), Duration.ofMillis(250), 0.1, Duration.ofSeconds(5), 4);
+        EmployeeCacheProperties cache = new EmployeeCacheProperties(
+                false,
+                EmployeeCacheProperties.Eviction.TINY_LFU,
+                DataSize.ofMegabytes(1),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(2));
+        RetryProperties retry = new RetryProperties(
+                new RetryProperties.Policy(
+                        1, Duration.ofMillis(1), 2.0, Duration.ofMillis(10), 0.0, Duration.ofSeconds(5)),
+                Map.of(),
+                0.2,
+                10);
+        service = new MockEmployeeApiService(
+                new RestTemplate(),
+                shards,
+                new RequestHedger(hedging, meterRegistry, Tracer.NOOP),
+                new UpstreamRetrier(retry, meterRegistry, Tracer.NOOP),
+                new EmployeeCache(cache, meterRegistry),
+                event -> {});
+    }
+
+    @AfterEach
+    void teardown() {
+        stubs.forEach(stub -> stub.server.stop(0));
+        shards.shutdown();
+    }
+
+    @Test
+    void testCreate_routesToOwningShard() {
+        for (String name : List.of("Tiger Nixon", "Garrett Winters", "Ashton Cox", "Cedric Kelly")) {
+            EmployeeResponseDTO created = service.createEmployee(input(name, 100));
+
+            StubShard owner = stubs.get(shards.ownerOf(name));
+            assertTrue(owner.employees.stream().anyMatch(employee -> employee.getId().equals(created.getId())));
+        }
+        assertEquals(4, stubs.stream().mapToInt(stub -> stub.employees.size()).sum());
+    }
+
+    @Test
+    void testListAndSearch_gatherEveryShard() {
+        stubs.get(0).seed("Tiger Nixon", 320);
+        stubs.get(1).seed("Tim Cox", 170);
+        stubs.get(2).seed("Ashton Cox", 86);
+
+        assertEquals(3, service.getAllEmployees().size());
+        assertEquals(
+                List.of("Ashton Cox", "Tim Cox"),
+                service.searchEmployeesByName("cox").stream()
+                        .map(EmployeeResponseDTO::getEmployee_name)
+                        .sorted()
+                        .toList());
+    }
+
+    @Test
+    void testStats_mergeTopEarnersAcrossShards() {
+        IntStream.range(0, 9).forEach(i -> stubs.get(i % 3).seed("Employee " + i, 1000 * (i + 1)));
+
+        EmployeeStatsDTO stats = service.getEmployeeStats();
+
+        assertEquals(9, stats.getCount());
+        assertEquals(1000, stats.getMinSalary());
+        assertEquals(9000, stats.getMaxSalary());
+        assertEquals(45_000, stats.getTotalSalary());
+        assertEquals(
+                List.of(9000, 8000),
+                stats.getTopEarners().stream()
+                        .map(EmployeeResponseDTO::getEmployee_salary)
+                        .toList());
+    }
+
+    @Test
+    void testGetById_scattersOnceThenGoesToKnownShard() {
+        EmployeeResponseDTO seeded = stubs.get(2).seed("Cedric Kelly", 433);
+
+        assertEquals("Cedric Kelly", service.getEmployeeById(seeded.getId()).getEmployee_name());
+        int scattered = totalRequests();
+        assertEquals("Cedric Kelly", service.getEmployeeById(seeded.getId()).getEmployee_name());
+
+        assertEquals(3, scattered);
+        assertEquals(4, totalRequests());
+        assertNull(service.getEmployeeById("missing"));
+    }
+
+    @Test
+    void testDelete_fallsBackToShardHoldingSeededEmployee() {
+        String name = "Airi Satou";
+        int elsewhere = (shards.ownerOf(name) + 1) % 3;
+        stubs.get(elsewhere).seed(name, 162);
+
+        assertTrue(service.deleteEmployeeByName(name));
+        assertTrue(stubs.get(elsewhere).employees.isEmpty());
+        assertFalse(service.deleteEmployeeByName(name));
+    }
+
+    @Test
+    void testDeleteById_goesToShardTheIdWasFoundOn() {
+        String name = "Brielle Williamson";
+        int owner = shards.ownerOf(name);
+        int elsewhere = (owner + 1) % 3;
+        stubs.get(owner).seed(name, 372);
+        EmployeeResponseDTO seeded = stubs.get(elsewhere).seed(name, 372);
+
+        assertTrue(service.deleteEmployee(service.getEmployeeById(seeded.getId())));
+
+        assertTrue(stubs.get(elsewhere).employees.isEmpty());
+        assertEquals(1, stubs.get(owner).employees.size());
+        assertFalse(service.deleteEmployee(seeded));
+        assertEquals(1, stubs.get(owner).employees.size());
+    }
+
+    private int totalRequests() {
+        return stubs.stream().mapToInt(stub -> stub.requests.get()).sum();
+    }
+
+    private static EmployeeInputDTO input(String name, int salary) {
+        return new EmployeeInputDTO(name, salary, 30, "Engineer");
+    }
+
+    /**
+     * Minimal in-memory stand-in for one mock server instance.
+     */
+    static class StubShard {
+
+        static final int TOP_K = 2;
+
+        final HttpServer server;
+        final List<EmployeeResponseDTO> employees = new CopyOnWriteArrayList<>();
+        final AtomicInteger requests = new AtomicInteger();
+
+        StubShard() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v1/employee", this::handle);
+            server.start();
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1";
+        }
+
+        EmployeeResponseDTO seed(String name, int salary) {
+            EmployeeResponseDTO employee =
+                    new EmployeeResponseDTO(UUID.randomUUID().toString(), name, salary, 30, "Engineer", null);
+            employees.add(employee);
+            return employee;
+        }
+
+        void handle(HttpExchange exchange) throws IOException {
+            requests.incrementAndGet();
+            String path = exchange.getRequestURI().getPath().substring("/api/v1/employee".length());
+            String query = exchange.getRequestURI().getQuery();
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> {
+                    if (path.equals("/stats")) {
+                        respond(exchange, 200, stats());
+                    } else if (path.startsWith("/")) {
+                        String id = path.substring(1);
+                        employees.stream()
+                                .filter(employee -> employee.getId().equals(id))
+                                .findFirst()
+                                .ifPresentOrElse(
+                                        employee -> respond(exchange, 200, employee),
+                                        () -> respond(exchange, 404, null));
+                    } else {
+                        String fragment = query == null ? "" : query.substring(query.indexOf('=') + 1);
+                        respond(
+                                exchange,
+                                200,
+                                employees.stream()
+                                        .filter(employee -> employee.getEmployee_name()
+                                                .toLowerCase()
+                                                .contains(fragment.toLowerCase()))
+                                        .toList());
+                    }
+                }
+                case "POST" -> {
+                    EmployeeInputDTO input = MAPPER.readValue(exchange.getRequestBody(), EmployeeInputDTO.class);
+                    respond(exchange, 200, seed(input.getName(), input.getSalary()));
+                }
+                case "DELETE" -> {
+                    String name = MAPPER.readTree(exchange.getRequestBody()).get("name").asText();
+                    EmployeeResponseDTO match = employees.stream()
+                            .filter(employee -> employee.getEmployee_name().equalsIgnoreCase(name))
+                            .findFirst()
+                            .orElse(null);
+                    if (match != null) {
+                        employees.remove(match);
+                    }
+                    // Like the mock server, a delete that finds no one still succeeds, with data false.
+                    respond(exchange, 200, match != null);
+                }
+                default -> respond(exchange, 405, null);
+            }
+        }
+
+        Map<String, Object> stats() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", employees.size());
+            stats.put(
+                    "minSalary",
+                    employees.stream()
+                            .map(EmployeeResponseDTO::getEmployee_salary)
+                            .min(Integer::compare)
+                            .orElse(null));
+            stats.put(
+                    "maxSalary",
+                    employees.stream()
+                            .map(EmployeeResponseDTO::getEmployee_salary)
+                            .max(Integer::compare)
+                            .orElse(null));
+            stats.put(
+                    "totalSalary",
+                    employees.stream()
+                            .mapToLong(EmployeeResponseDTO::getEmployee_salary)
+                            .sum());
+            stats.put(
+                    "topEarners",
+                    employees.stream()
+                            .sorted(Comparator.comparing(EmployeeResponseDTO::getEmployee_salary)
+                                    .reversed())
+                            .limit(TOP_K)
+                            .toList());
+            return stats;
+        }
+
+        static void respond(HttpExchange exchange, int status, Object data) {
+            try {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("data", data);
+                body.put("status", status == 200 ? "Successfully processed request." : "Failed.");
+                byte[] bytes = MAPPER.writeValueAsBytes(body);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
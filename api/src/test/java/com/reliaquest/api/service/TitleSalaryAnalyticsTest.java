@@ -0,0 +1,57 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.TitleSalaryStatsDTO;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TitleSalaryAnalyticsTest {
+
+    TitleSalaryAnalytics analytics = new TitleSalaryAnalytics(mock(EmployeeDataset.class));
+
+    @Test
+    void testSalaryByTitle_followsDatasetChanges() {
+        EmployeeResponseDTO leaving = employee("Engineer", 60);
+        analytics.onSnapshot(List.of(employee("Engineer", 100), leaving, employee("Manager", 120)));
+        analytics.onCreated(employee("Engineer", 110));
+        analytics.onCreated(employee(null, 50));
+        analytics.onDeleted(leaving);
+
+        List<TitleSalaryStatsDTO> stats = analytics.salaryByTitle();
+
+        assertEquals(
+                List.of("Engineer", "Manager", "Unknown", TitleSalaryAnalytics.ALL_TITLES),
+                stats.stream().map(TitleSalaryStatsDTO::getTitle).toList());
+        TitleSalaryStatsDTO engineers = stats.get(0);
+        assertEquals(2, engineers.getCount());
+        assertEquals(105.0, engineers.getMean());
+        assertEquals(100, engineers.getP50());
+        assertEquals(110, engineers.getP99());
+        TitleSalaryStatsDTO all = stats.get(3);
+        assertEquals(4, all.getCount());
+        assertEquals(120, all.getP90());
+    }
+
+    @Test
+    void testSalaryByTitle_dropsTitlesWithNoEmployeesLeft() {
+        EmployeeResponseDTO only = employee("Intern", 20);
+        analytics.onSnapshot(List.of(only));
+        analytics.onDeleted(only);
+
+        assertEquals(
+                List.of(TitleSalaryAnalytics.ALL_TITLES),
+                analytics.salaryByTitle().stream()
+                        .map(TitleSalaryStatsDTO::getTitle)
+                        .toList());
+    }
+
+    private static EmployeeResponseDTO employee(String title, int salary) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setEmployee_title(title);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,258 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.RetryProperties;
+import com.reliaquest.api.exception.DeadlineExceededException;
+import com.reliaquest.api.jfr.RetryBackoffEvent;
+import com.reliaquest.api.jfr.UpstreamAttemptEvent;
+import com.reliaquest.api.jfr.UpstreamRecoverEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class UpstreamRetrierTest {
+
+    SimpleMeterRegistry meterRegistry;
+    List<Long> sleeps;
+    AtomicInteger attempts;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        sleeps = new ArrayList<>();
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    void testServerErrors_retriedWithExponentialBackoff() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+
+        String result = retrier.execute("read", () -> failTimes(2, serverError()), failure -> "recovered");
+
+        assertEquals("ok", result);
+        assertEquals(List.of(100L, 200L), sleeps);
+        assertEquals(2, retryCount("retried"));
+    }
+
+    @Test
+    void testTooManyRequests_waitsForRetryAfter() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+
+        String result = retrier.execute("read", () -> failTimes(1, tooManyRequests("2")), failure -> "recovered");
+
+        assertEquals("ok", result);
+        assertEquals(List.of(2000L), sleeps);
+    }
+
+    @Test
+    void testRetryAfterBeyondTimeout_recoversWithoutWaiting() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+
+        String result = retrier.execute("read", () -> failTimes(5, tooManyRequests("60")), failure -> "recovered");
+
+        assertEquals("recovered", result);
+        assertEquals(1, attempts.get());
+        assertTrue(sleeps.isEmpty());
+        assertEquals(1, retryCount("timeout"));
+    }
+
+    @Test
+    void testAttemptsExhausted_recoversWithLastFailure() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+        HttpServerErrorException failure = serverError();
+
+        Throwable recovered = assertThrows(
+                IllegalStateException.class,
+                () -> retrier.execute("read", () -> failTimes(5, failure), last -> {
+                    throw new IllegalStateException(last);
+                }));
+
+        assertSame(failure, recovered.getCause());
+        assertEquals(3, attempts.get());
+        assertEquals(1, retryCount("exhausted"));
+    }
+
+    @Test
+    void testBudgetExhausted_stopsRetrying() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 1);
+
+        String first = retrier.execute("read", () -> failTimes(5, serverError()), failure -> "recovered");
+
+        assertEquals("recovered", first);
+        assertEquals(2, attempts.get());
+        assertEquals(1, retryCount("budget"));
+    }
+
+    @Test
+    void testNonRetryableFailure_rethrownWithoutRecovery() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+        HttpClientErrorException notFound =
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), null, null);
+
+        HttpClientErrorException thrown = assertThrows(
+                HttpClientErrorException.class,
+                () -> retrier.execute("read", () -> failTimes(5, notFound), failure -> "recovered"));
+
+        assertSame(notFound, thrown);
+        assertEquals(1, attempts.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void testLostResponse_retriedOnlyWhenIdempotent() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+        ResourceAccessException lost = new ResourceAccessException("Connection reset");
+
+        assertThrows(
+                ResourceAccessException.class,
+                () -> retrier.execute("write", () -> failTimes(1, lost), failure -> "recovered"));
+        assertEquals(1, attempts.get());
+
+        attempts.set(0);
+        String result = retrier.executeIdempotent("write", () -> failTimes(1, lost), failure -> "recovered");
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testOperationPolicy_overridesDefaults() {
+        RetryProperties properties = new RetryProperties(
+                policy(3, Duration.ofSeconds(10)), Map.of("write", policy(1, Duration.ofSeconds(10))), 0, 10);
+        UpstreamRetrier retrier = new UpstreamRetrier(properties, meterRegistry, Tracer.NOOP, sleeps::add);
+
+        String result = retrier.execute("write", () -> failTimes(5, serverError()), failure -> "recovered");
+
+        assertEquals("recovered", result);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testBackoffOutlastingDeadline_recoversWithoutWaiting() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+
+        String result;
+        try (RequestDeadline.Scope ignored = RequestDeadline.after(Duration.ofMillis(50)).attach()) {
+            result = retrier.execute("read", () -> failTimes(5, serverError()), failure -> "recovered");
+        }
+
+        assertEquals("recovered", result);
+        assertEquals(1, attempts.get());
+        assertTrue(sleeps.isEmpty());
+        assertEquals(1, retryCount("deadline"));
+    }
+
+    @Test
+    void testExpiredDeadline_failsWithoutCallingUpstream() {
+        UpstreamRetrier retrier = retrier(policy(3, Duration.ofSeconds(10)), 10);
+
+        try (RequestDeadline.Scope ignored = RequestDeadline.after(Duration.ZERO).attach()) {
+            assertThrows(
+                    DeadlineExceededException.class,
+                    () -> retrier.execute("read", () -> failTimes(0, serverError()), failure -> "recovered"));
+        }
+
+        assertEquals(0, attempts.get());
+        assertNull(RequestDeadline.current());
+    }
+
+    @Test
+    void testRetryAfterMillis_parsesSecondsAndDates() {
+        String inFiveMinutes =
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+
+        assertEquals(7000, UpstreamRetrier.retryAfterMillis(tooManyRequests("7")));
+        assertTrue(UpstreamRetrier.retryAfterMillis(tooManyRequests(inFiveMinutes)) > 240_000);
+        assertEquals(-1, UpstreamRetrier.retryAfterMillis(tooManyRequests("soon")));
+        assertEquals(-1, UpstreamRetrier.retryAfterMillis(serverError()));
+    }
+
+    @Test
+    void testAttemptsBackoffsAndRecover_recordedAsFlightRecorderEvents() throws Exception {
+        UpstreamRetrier retrier = retrier(policy(2, Duration.ofSeconds(10)), 10);
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(UpstreamAttemptEvent.class);
+            recording.enable(RetryBackoffEvent.class);
+            recording.enable(UpstreamRecoverEvent.class);
+            recording.start();
+            retrier.execute("read", () -> failTimes(5, serverError()), failure -> "recovered");
+            recording.stop();
+            Path file = Files.createTempFile("retrier", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+        }
+
+        List<RecordedEvent> attemptEvents = events(events, "com.reliaquest.api.UpstreamAttempt");
+        assertEquals(2, attemptEvents.size());
+        assertEquals("read", attemptEvents.get(0).getString("operation"));
+        assertNotNull(attemptEvents.get(0).getString("failure"));
+        List<RecordedEvent> backoffEvents = events(events, "com.reliaquest.api.RetryBackoff");
+        assertEquals(1, backoffEvents.size());
+        assertEquals(100L, backoffEvents.get(0).getLong("plannedDelay"));
+        List<RecordedEvent> recoverEvents = events(events, "com.reliaquest.api.UpstreamRecover");
+        assertEquals(1, recoverEvents.size());
+        assertEquals(2, recoverEvents.get(0).getInt("attempts"));
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+
+    private UpstreamRetrier retrier(RetryProperties.Policy policy, int budgetCapacity) {
+        RetryProperties properties = new RetryProperties(policy, Map.of(), 0, budgetCapacity);
+        return new UpstreamRetrier(properties, meterRegistry, Tracer.NOOP, sleeps::add);
+    }
+
+    private static RetryProperties.Policy policy(int maxAttempts, Duration timeout) {
+        return new RetryProperties.Policy(
+                maxAttempts, Duration.ofMillis(100), 2.0, Duration.ofSeconds(1), 0.0, timeout);
+    }
+
+    private String failTimes(int failures, RuntimeException failure) {
+        if (attempts.getAndIncrement() < failures) {
+            throw failure;
+        }
+        return "ok";
+    }
+
+    private static HttpServerErrorException serverError() {
+        return new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private static HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+    }
+
+    private double retryCount(String outcome) {
+        return meterRegistry
+                .get("employee.api.upstream.retries")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
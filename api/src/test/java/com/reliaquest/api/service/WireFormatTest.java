@@ -0,0 +1,52 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.dto.EmployeeListResponseWrapper;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.*;
+
+/**
+ * Checks that an employee list payload is smaller as Smile than as JSON and decodes to the same employees. Encoding and
+ * decoding speed are compared by {@code EmployeeResponseJsonBenchmark}.
+ */
+class WireFormatTest {
+
+    static final int EMPLOYEES = 1_000;
+
+    ObjectMapper json = new ObjectMapper();
+    ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Test
+    void testSmilePayload_smallerAndEquivalent() throws Exception {
+        EmployeeListResponseWrapper payload = payload();
+
+        byte[] jsonBytes = json.writeValueAsBytes(payload);
+        byte[] smileBytes = smile.writeValueAsBytes(payload);
+
+        assertTrue(smileBytes.length < jsonBytes.length);
+        EmployeeListResponseWrapper decoded = smile.readValue(smileBytes, EmployeeListResponseWrapper.class);
+        assertEquals(json.writeValueAsString(payload), json.writeValueAsString(decoded));
+    }
+
+    private static EmployeeListResponseWrapper payload() {
+        List<EmployeeResponseDTO> employees = IntStream.range(0, EMPLOYEES)
+                .mapToObj(i -> new EmployeeResponseDTO(
+                        UUID.randomUUID().toString(),
+                        "Employee " + i,
+                        30_000 + i,
+                        16 + i % 50,
+                        "Title " + i % 100,
+                        "employee" + i + "@company.com"))
+                .toList();
+        EmployeeListResponseWrapper wrapper = new EmployeeListResponseWrapper();
+        wrapper.setStatus("Successfully processed request.");
+        wrapper.setData(employees);
+        return wrapper;
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.LoadSheddingProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    static final long BASELINE_NANOS = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void testSheddableRequests_admittedOnlyUpToTheirShare() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(true));
+        }
+        assertFalse(limiter.tryAcquire(true));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(false));
+        }
+        assertFalse(limiter.tryAcquire(false));
+        assertEquals(10, limiter.getInFlight());
+    }
+
+    @Test
+    void testSteadyLatencyUnderFullLoad_growsLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        runRounds(limiter, 20, BASELINE_NANOS);
+
+        assertTrue(limiter.getLimit() > 10, "limit was " + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testLightLoad_doesNotGrowLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire(false));
+            limiter.release(BASELINE_NANOS, false);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void testLatencySpike_shrinksLimitUntilLatencyRecovers() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        runRounds(limiter, 20, BASELINE_NANOS);
+        int warmedUp = limiter.getLimit();
+
+        runRounds(limiter, 1, 10 * BASELINE_NANOS);
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < warmedUp / 2, "limit went from " + warmedUp + " to " + shrunk);
+
+        runRounds(limiter, 20, BASELINE_NANOS);
+        assertTrue(limiter.getLimit() > shrunk, "limit stayed at " + limiter.getLimit());
+    }
+
+    @Test
+    void testFailures_backOffLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire(false));
+            limiter.release(BASELINE_NANOS, true);
+        }
+
+        assertTrue(limiter.getLimit() < 100, "limit was " + limiter.getLimit());
+    }
+
+    /**
+     * Fills the limit with requests and completes them all with the same latency, {@code rounds} times.
+     */
+    static void runRounds(AdaptiveConcurrencyLimiter limiter, int rounds, long latencyNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire(false)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(latencyNanos, false);
+            }
+        }
+    }
+
+    static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(
+                new LoadSheddingProperties(true, initialLimit, 4, 200, 0.5, 1.5, 0.2, 0.9, 600, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.DeadlineProperties;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.service.RequestDeadline;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class DeadlineInterceptorTest {
+
+    DeadlineInterceptor interceptor;
+    MockHttpServletResponse response;
+
+    @BeforeEach
+    void setup() {
+        interceptor = new DeadlineInterceptor(new DeadlineProperties(
+                true,
+                "X-Request-Timeout",
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(20),
+                Map.of("fast", Duration.ofSeconds(2)),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10)));
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void teardown() {
+        assertNull(RequestDeadline.current());
+    }
+
+    @Test
+    void testNoHeader_usesEndpointTimeoutOrDefault() throws Exception {
+        assertEquals(2000, remainingDuring(new MockHttpServletRequest(), handler("fast")), 200);
+        assertEquals(10_000, remainingDuring(new MockHttpServletRequest(), handler("other")), 200);
+    }
+
+    @Test
+    void testHeader_overridesEndpointTimeout_upToMax() throws Exception {
+        assertEquals(500, remainingDuring(withHeader("500ms"), handler("fast")), 200);
+        assertEquals(750, remainingDuring(withHeader("750"), handler("fast")), 200);
+        assertEquals(20_000, remainingDuring(withHeader("5m"), handler("fast")), 200);
+    }
+
+    @Test
+    void testInvalidHeader_rejected() {
+        assertThrows(
+                InvalidRequestException.class,
+                () -> interceptor.preHandle(withHeader("soon"), response, handler("fast")));
+        assertThrows(
+                InvalidRequestException.class,
+                () -> interceptor.preHandle(withHeader("0s"), response, handler("fast")));
+    }
+
+    @Test
+    void testAfterCompletion_clearsDeadlineOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, handler("fast"));
+        assertNotNull(RequestDeadline.current());
+
+        interceptor.afterCompletion(request, response, handler("fast"), null);
+        interceptor.afterCompletion(request, response, handler("fast"), null);
+    }
+
+    long remainingDuring(MockHttpServletRequest request, HandlerMethod handler) throws Exception {
+        interceptor.preHandle(request, response, handler);
+        try {
+            return TimeUnit.NANOSECONDS.toMillis(RequestDeadline.remainingNanos());
+        } finally {
+            interceptor.afterCompletion(request, response, handler, null);
+        }
+    }
+
+    static MockHttpServletRequest withHeader(String timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Request-Timeout", timeout);
+        return request;
+    }
+
+    static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+
+    public static class Handlers {
+
+        public void fast() {}
+
+        public void other() {}
+    }
+}
@@ -0,0 +1,229 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.HttpCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+class HttpResponseCacheFilterTest {
+
+    AtomicInteger controllerCalls;
+    AtomicLong version;
+    AtomicBoolean changesLive;
+    String body;
+    int status;
+    FilterChain controller;
+
+    @BeforeEach
+    void setup() {
+        controllerCalls = new AtomicInteger();
+        version = new AtomicLong(1);
+        changesLive = new AtomicBoolean(true);
+        body = "[{\"id\":\"1\",\"employee_name\":\"Chirag\"}]";
+        status = 200;
+        controller = (request, response) -> {
+            controllerCalls.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    void testRepeatedGet_servedFromCacheWithSameETag() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+
+        MockHttpServletResponse first = get(filter, null);
+        MockHttpServletResponse second = get(filter, null);
+
+        assertEquals(1, controllerCalls.get());
+        assertEquals(200, second.getStatus());
+        assertEquals(body, second.getContentAsString());
+        assertNotNull(first.getHeader(HttpHeaders.ETAG));
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=5, must-revalidate", second.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void testIfNoneMatch_returnsNotModified() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+        String etag = get(filter, null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse revalidated = get(filter, etag);
+
+        assertEquals(304, revalidated.getStatus());
+        assertEquals(0, revalidated.getContentAsByteArray().length);
+        assertEquals(etag, revalidated.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testGzipAccepted_servesPreCompressedBody() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+        body = "[" + "{\"employee_name\":\"Chirag\"},".repeat(100) + "{}]";
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body, gunzip(response.getContentAsByteArray()));
+        assertEquals(body, get(filter, null).getContentAsString());
+    }
+
+    @Test
+    void testETag_carriesDatasetVersion() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+        version.set(42);
+
+        String etag = get(filter, null).getHeader(HttpHeaders.ETAG);
+
+        assertTrue(etag.matches("\"[0-9a-f]+-42-[0-9a-f]+\""), etag);
+    }
+
+    @Test
+    void testNewDatasetVersion_askedAgainWithNewETag() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+
+        String first = get(filter, null).getHeader(HttpHeaders.ETAG);
+        body = "[]";
+        version.incrementAndGet();
+        MockHttpServletResponse second = get(filter, first);
+        MockHttpServletResponse third = get(filter, null);
+
+        assertEquals(2, controllerCalls.get());
+        assertEquals(200, second.getStatus());
+        assertNotEquals(first, second.getHeader(HttpHeaders.ETAG));
+        assertEquals("[]", second.getContentAsString());
+        assertEquals(second.getHeader(HttpHeaders.ETAG), third.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testChangesNotLive_keptNoLongerThanMaxAge() throws Exception {
+        changesLive.set(false);
+        HttpResponseCacheFilter expiring = filter("max-age=0, must-revalidate");
+        HttpResponseCacheFilter lasting = filter("public, max-age=60");
+
+        get(expiring, null);
+        get(expiring, null);
+        get(lasting, null);
+        get(lasting, null);
+
+        assertEquals(3, controllerCalls.get());
+    }
+
+    @Test
+    void testChangesLive_keptPastMaxAgeUntilVersionChanges() throws Exception {
+        HttpResponseCacheFilter filter = filter("max-age=0, must-revalidate");
+
+        get(filter, null);
+        get(filter, null);
+        version.incrementAndGet();
+        get(filter, null);
+
+        assertEquals(2, controllerCalls.get());
+    }
+
+    @Test
+    void testBodyChangedUnderSameVersion_newETagInsteadOfNotModified() throws Exception {
+        changesLive.set(false);
+        HttpResponseCacheFilter filter = filter("max-age=0, must-revalidate");
+        String first = get(filter, null).getHeader(HttpHeaders.ETAG);
+
+        body = "[{\"id\":\"1\",\"employee_name\":\"Chirag\",\"employee_salary\":1000}]";
+        MockHttpServletResponse changed = get(filter, first);
+        MockHttpServletResponse unchanged = get(filter, changed.getHeader(HttpHeaders.ETAG));
+
+        assertEquals(200, changed.getStatus());
+        assertEquals(body, changed.getContentAsString());
+        assertNotEquals(first, changed.getHeader(HttpHeaders.ETAG));
+        assertEquals(304, unchanged.getStatus());
+        assertEquals(3, controllerCalls.get());
+    }
+
+    @Test
+    void testSafeMethods_doNotInvalidateCachedResponses() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+        String etag = get(filter, null).getHeader(HttpHeaders.ETAG);
+
+        for (String method : List.of("OPTIONS", "TRACE")) {
+            filter.doFilter(
+                    new MockHttpServletRequest(method, "/employees"), new MockHttpServletResponse(), controller);
+        }
+        MockHttpServletResponse head = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("HEAD", "/employees"), head, controller);
+        MockHttpServletResponse again = get(filter, null);
+
+        // OPTIONS and TRACE pass through to the controller; HEAD and the later GET are answered from the cache.
+        assertEquals(3, controllerCalls.get());
+        assertEquals(etag, head.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, head.getContentAsByteArray().length);
+        assertEquals(etag, again.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testSuccessfulWrite_invalidatesCachedResponses() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+        get(filter, null);
+
+        filter.doFilter(
+                new MockHttpServletRequest("DELETE", "/employees/1"), new MockHttpServletResponse(), controller);
+        get(filter, null);
+
+        assertEquals(3, controllerCalls.get());
+    }
+
+    @Test
+    void testErrorResponse_notCached() throws Exception {
+        HttpResponseCacheFilter filter = filter();
+        status = 503;
+
+        MockHttpServletResponse first = get(filter, null);
+        get(filter, null);
+
+        assertEquals(503, first.getStatus());
+        assertNull(first.getHeader(HttpHeaders.ETAG));
+        assertEquals(2, controllerCalls.get());
+    }
+
+    private HttpResponseCacheFilter filter() {
+        return filter("max-age=5, must-revalidate");
+    }
+
+    private HttpResponseCacheFilter filter(String cacheControl) {
+        HttpCacheProperties properties =
+                new HttpCacheProperties(true, List.of("/employees"), cacheControl, DataSize.ofBytes(1024), 64);
+        return new HttpResponseCacheFilter(properties, new SimpleMeterRegistry(), version::get, changesLive::get);
+    }
+
+    private MockHttpServletResponse get(HttpResponseCacheFilter filter, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
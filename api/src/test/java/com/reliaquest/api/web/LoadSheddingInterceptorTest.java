@@ -0,0 +1,116 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.LoadSheddingProperties;
+import com.reliaquest.api.exception.LoadShedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class LoadSheddingInterceptorTest {
+
+    final AtomicBoolean datasetInMemory = new AtomicBoolean();
+    SimpleMeterRegistry meterRegistry;
+    LoadSheddingInterceptor interceptor;
+    MockHttpServletResponse response;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new LoadSheddingInterceptor(
+                new LoadSheddingProperties(true, 4, 4, 4, 0.5, 1.5, 0.2, 0.9, 600, Duration.ofSeconds(2)),
+                meterRegistry,
+                datasetInMemory::get);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void testSaturated_shedsSheddableFirstThenNormal_butNeverCritical() throws Exception {
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("sheddable")));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("sheddable")));
+        LoadShedException shed = assertThrows(
+                LoadShedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("sheddable")));
+        assertEquals(Duration.ofSeconds(2), shed.getRetryAfter());
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("normal")));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("normal")));
+        assertThrows(
+                LoadShedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("normal")));
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("critical")));
+
+        assertEquals(1.0, rejected("sheddable"));
+        assertEquals(1.0, rejected("normal"));
+        assertEquals(0.0, rejected("critical"));
+        assertEquals(4.0, gauge("employee.api.concurrency.in_flight"));
+        assertEquals(4.0, gauge("employee.api.concurrency.limit"));
+    }
+
+    @Test
+    void testDatasetHandler_limitedUntilDatasetInMemory() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("normal")));
+        }
+        assertThrows(
+                LoadShedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("dataset")));
+        assertEquals(1.0, rejected("normal"));
+
+        datasetInMemory.set(true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(request, response, handler("dataset")));
+        interceptor.afterCompletion(request, response, handler("dataset"), null);
+        assertEquals(4.0, gauge("employee.api.concurrency.in_flight"));
+    }
+
+    @Test
+    void testAfterCompletion_releasesAdmittedRequestOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, handler("normal"));
+        assertEquals(1.0, gauge("employee.api.concurrency.in_flight"));
+
+        interceptor.afterCompletion(request, response, handler("normal"), null);
+        interceptor.afterCompletion(request, response, handler("normal"), null);
+
+        assertEquals(0.0, gauge("employee.api.concurrency.in_flight"));
+    }
+
+    double rejected(String priority) {
+        return meterRegistry
+                .get("employee.api.concurrency.rejected")
+                .tag("priority", priority)
+                .counter()
+                .count();
+    }
+
+    double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+
+    public static class Handlers {
+
+        @LoadPriority(LoadPriority.Level.CRITICAL)
+        public void critical() {}
+
+        @LoadPriority(LoadPriority.Level.DATASET)
+        public void dataset() {}
+
+        public void normal() {}
+
+        @LoadPriority(LoadPriority.Level.SHEDDABLE)
+        public void sheddable() {}
+    }
+}
@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+#
+# Measures startup of the api and server modules in each fast-startup mode: time from launching the process to the
+# first successful request, and resident set size at that moment. Prints one CSV line per module, mode and run.
+#
+#   scripts/startup-benchmark.sh [runs] [modules...]      e.g. scripts/startup-benchmark.sh 5 server
+#
+# Modes: jar (plain boot jar), aot (Spring AOT), cds (plain jars plus a trained CDS archive), aot-cds, and native when
+# a native image has been built with ./gradlew <module>:nativeCompile -Pnative.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-3}
+shift || true
+if (($#)); then
+    MODULES=("$@")
+else
+    MODULES=(server api)
+fi
+
+declare -A PORT=([server]=8112 [api]=8111)
+declare -A PROBE=([server]=/api/v1/employee [api]=/actuator/health)
+# The API is measured on its own, without following a mock server's change stream.
+declare -A APP_ARGS=([server]="" [api]="--api.change-stream.enabled=false")
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts "$@", waits for the module's probe URL to answer 2xx and prints "<millis>,<rss kB>".
+measure() {
+    local module=$1
+    shift
+    local url="http://localhost:${PORT[$module]}${PROBE[$module]}"
+    local start
+    start=$(now_ms)
+    "$@" > "build/startup-benchmark-$module.log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$module exited before answering, see build/startup-benchmark-$module.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    local elapsed=$(($(now_ms) - start))
+    local rss
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed,$rss"
+}
+
+mkdir -p build
+echo "module,mode,run,first_request_ms,rss_kb"
+for module in "${MODULES[@]}"; do
+    ./gradlew -q ":$module:bootJar" ":$module:trainCds" -PfastStartup > /dev/null
+    jar=$(ls "$module"/build/libs/*.jar | grep -v -e '-plain.jar' -e '-aot.jar' | head -n 1)
+    dist="$module/build/fast-startup"
+    native="$module/build/native/nativeCompile/$module"
+    # shellcheck disable=SC2206
+    args=(${APP_ARGS[$module]})
+
+    declare -A COMMANDS=(
+        [jar]="java -jar $jar"
+        [aot]="java -Dspring.aot.enabled=true -jar $jar"
+        [cds]="java -XX:SharedArchiveFile=$dist/app.jsa @$dist/app.args"
+        [aot-cds]="java -XX:SharedArchiveFile=$dist/app.jsa -Dspring.aot.enabled=true @$dist/app.args"
+    )
+    if [[ -x "$native" ]]; then
+        COMMANDS[native]="$native"
+    fi
+    for mode in jar aot cds aot-cds native; do
+        [[ -n "${COMMANDS[$mode]:-}" ]] || continue
+        for run in $(seq 1 "$RUNS"); do
+            # shellcheck disable=SC2086
+            echo "$module,$mode,$run,$(measure "$module" ${COMMANDS[$mode]} "${args[@]}")"
+        done
+    done
+    unset COMMANDS
+done
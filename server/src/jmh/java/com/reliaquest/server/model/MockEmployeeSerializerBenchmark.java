@@ -0,0 +1,83 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link MockEmployeeSerializer} with Jackson's reflective bean serializer and
+ * {@link MockEmployee.PrefixNamingStrategy} on the employee list response, in JSON and in Smile. Run with the
+ * {@code gc} profiler to see bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeSerializerBenchmark {
+
+    @Param({"50", "1000", "100000"})
+    int employees;
+
+    @Param({"json", "smile"})
+    String format;
+
+    ObjectMapper streaming;
+    ObjectMapper databind;
+    Response<List<MockEmployee>> response;
+
+    @Setup
+    public void setup() {
+        streaming = mapper();
+        databind = mapper().addMixIn(MockEmployee.class, BeanCodecs.class);
+        final List<MockEmployee> data = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            data.add(new MockEmployee(
+                    UUID.randomUUID(),
+                    "Employee " + i,
+                    50_000 + i,
+                    20 + i % 45,
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        response = Response.handledWith(data);
+    }
+
+    @Benchmark
+    public byte[] serializeStreaming() throws IOException {
+        return streaming.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeDatabind() throws IOException {
+        return databind.writeValueAsBytes(response);
+    }
+
+    private ObjectMapper mapper() {
+        return format.equals("smile") ? new ObjectMapper(new SmileFactory()) : new ObjectMapper();
+    }
+
+    /**
+     * Mixed into {@link MockEmployee} to fall back to the reflective bean serializer and its naming strategy.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class BeanCodecs {}
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fault injection profiles available to the mock server, and the one active on startup (none when blank).
+ */
+@ConfigurationProperties("mock.faults")
+public record FaultProperties(String active, List<FaultProfile> profiles) {
+
+    public List<FaultProfile> profiles() {
+        return profiles == null ? List.of() : profiles;
+    }
+}
@@ -2,6 +2,7 @@ package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -16,12 +17,10 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
@@ -31,7 +30,7 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The initial employees; MockEmployeeService copies them into its first snapshot and never modifies this list.
      */
     @Bean
     public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
@@ -52,8 +51,21 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+    /*
+     * Unset limits keep the original behaviour of picking a random limit and backoff on every startup.
+     */
+    @Bean
+    public RandomRequestLimitInterceptor requestLimitInterceptor(
+            @Value("${mock.request-limit.max-requests:0}") int maxRequests,
+            @Value("${mock.request-limit.backoff-seconds:0}") long backoffSeconds,
+            @Value("${mock.request-limit.client-key-header:X-Client-Id}") String clientKeyHeader,
+            @Value("${mock.request-limit.max-clients:1024}") int maxClients) {
+        final var interceptor = new RandomRequestLimitInterceptor(
+                maxRequests, Duration.ofSeconds(backoffSeconds), clientKeyHeader, maxClients);
+        log.info(
+                "Rate limiting each client to {} requests with a {} backoff.",
+                interceptor.getRequestLimit(),
+                interceptor.getBackoff());
+        return interceptor;
     }
 }
@@ -0,0 +1,48 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.service.FaultProfileService;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultProperties.class)
+public class WebConfiguration implements WebMvcConfigurer {
+
+    /*
+     * Admin endpoints are exempt from rate limiting and fault injection so load tests can always reconfigure the
+     * server.
+     */
+    public static final String ADMIN_PATH_PREFIX = "/api/v1/admin";
+
+    private final RandomRequestLimitInterceptor requestLimitInterceptor;
+
+    @Bean
+    public FaultInjectionFilter faultInjectionFilter(
+            FaultProfileService faultProfileService, ObjectMapper objectMapper) {
+        return new FaultInjectionFilter(faultProfileService, objectMapper, ADMIN_PATH_PREFIX);
+    }
+
+    /*
+     * Serves and accepts application/x-jackson-smile for clients asking for it; JSON remains the default.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestLimitInterceptor).excludePathPatterns(ADMIN_PATH_PREFIX + "/**");
+    }
+}
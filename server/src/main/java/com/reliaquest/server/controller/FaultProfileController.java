@@ -0,0 +1,57 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultProfileService;
+import jakarta.validation.Valid;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/faults")
+@RequiredArgsConstructor
+public class FaultProfileController {
+
+    private final FaultProfileService faultProfileService;
+
+    @GetMapping()
+    public Response<Collection<FaultProfile>> getProfiles() {
+        return Response.handledWith(faultProfileService.getProfiles());
+    }
+
+    @GetMapping("/active")
+    public ResponseEntity<Response<FaultProfile>> getActiveProfile() {
+        return faultProfileService
+                .getActive()
+                .map(profile -> ResponseEntity.ok(Response.handledWith(profile)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    @PutMapping("/active/{name}")
+    public ResponseEntity<Response<FaultProfile>> activateProfile(@PathVariable("name") String name) {
+        return faultProfileService
+                .activate(name)
+                .map(profile -> ResponseEntity.ok(Response.handledWith(profile)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    @PutMapping("/active")
+    public Response<FaultProfile> activateProfile(@Valid @RequestBody FaultProfile profile) {
+        return Response.handledWith(faultProfileService.activate(profile));
+    }
+
+    @DeleteMapping("/active")
+    public Response<Boolean> deactivateProfile() {
+        faultProfileService.deactivate();
+        return Response.handledWith(true);
+    }
+}
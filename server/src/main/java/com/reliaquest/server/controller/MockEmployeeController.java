@@ -3,32 +3,69 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import com.reliaquest.server.model.MockEmployeeStats;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeSnapshot;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeChangeLog changeLog;
+
+    /*
+     * The unfiltered list is written from the current snapshot's pre-encoded bytes: Smile when the client prefers it,
+     * as the API does, otherwise JSON, gzipped when the client accepts it. Setting Content-Encoding ourselves stops
+     * server compression from gzipping the response again. Filtered queries go through the message converters.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(@Valid MockEmployeeQuery query, @RequestHeader HttpHeaders headers) {
+        if (query.isEmpty()) {
+            return encodedList(mockEmployeeService.snapshot(), prefersSmile(headers), acceptsGzip(headers));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.query(query)));
+    }
+
+    @GetMapping("/stats")
+    public Response<MockEmployeeStats> getEmployeeStats() {
+        return Response.handledWith(mockEmployeeService.stats());
+    }
+
+    /*
+     * Resumes after the Last-Event-ID header sent by reconnecting EventSource clients, or after the "after" parameter;
+     * both are event ids of the form epoch:offset.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(name = "after", required = false) String after) {
+        return changeLog.subscribe(lastEventId != null ? lastEventId : after);
     }
 
     @GetMapping("/{id}")
@@ -39,13 +76,68 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Clients that may retry a create send the same Idempotency-Key with each attempt, so only the first creates.
+     */
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        return Response.handledWith(mockEmployeeService.create(input, idempotencyKey));
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static ResponseEntity<byte[]> encodedList(MockEmployeeSnapshot snapshot, boolean smile, boolean gzip) {
+        final var response =
+                ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (smile) {
+            return response.contentType(APPLICATION_SMILE).body(snapshot.smile());
+        }
+        response.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    /**
+     * Smile is chosen only when the client rates it above JSON, so JSON stays the default for wildcards and ties.
+     */
+    private static boolean prefersSmile(HttpHeaders headers) {
+        final List<MediaType> accept = headers.getAccept();
+        return quality(accept, APPLICATION_SMILE) > quality(accept, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * @return the quality the most specific range in {@code accept} that includes {@code type} gives it, or 0 if none
+     *     does
+     */
+    private static double quality(List<MediaType> accept, MediaType type) {
+        double quality = 0;
+        int specificity = -1;
+        for (MediaType range : accept) {
+            final int rangeSpecificity = range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+            if (range.includes(type) && rangeSpecificity > specificity) {
+                specificity = rangeSpecificity;
+                quality = range.getQualityValue();
+            }
+        }
+        return quality;
+    }
+
+    private static boolean acceptsGzip(HttpHeaders headers) {
+        for (String value : headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                final String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
 }
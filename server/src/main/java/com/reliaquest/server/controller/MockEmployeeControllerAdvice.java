@@ -1,8 +1,11 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockIdempotencyStore;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -10,6 +13,18 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleKeyReused(MockIdempotencyStore.KeyReusedException ex) {
+        log.warn(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidRequest(BindException ex) {
+        log.debug("Rejected request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
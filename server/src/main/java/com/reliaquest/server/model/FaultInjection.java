@@ -0,0 +1,14 @@
+package com.reliaquest.server.model;
+
+/**
+ * Faults decided for a single request.
+ *
+ * @param errorStatus 5xx status to respond with instead of handling the request, or 0 for none
+ */
+public record FaultInjection(
+        long delayMillis, int errorStatus, boolean reset, int dripChunkBytes, long dripDelayMillis) {
+
+    public boolean drips() {
+        return dripChunkBytes > 0;
+    }
+}
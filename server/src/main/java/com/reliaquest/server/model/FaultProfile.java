@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+
+/**
+ * A named set of {@link FaultRule}s. Rules are matched in order and the first match applies. The {@code seed} makes the
+ * injected faults reproducible: the n-th request after activation always sees the same faults.
+ */
+public record FaultProfile(@NotBlank String name, long seed, @Valid List<FaultRule> rules) {
+
+    public List<FaultRule> rules() {
+        return rules == null ? List.of() : rules;
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.SplittableRandom;
+
+/**
+ * Faults injected into requests matching {@code method} (blank for any) and the Ant-style {@code path} pattern (blank
+ * for any). Rates are probabilities in [0, 1]; a drip of zero bytes disables slow-drip bodies.
+ */
+public record FaultRule(
+        String method,
+        String path,
+        @Valid Latency latency,
+        @DecimalMin("0.0") @DecimalMax("1.0") double errorRate,
+        int errorStatus,
+        @DecimalMin("0.0") @DecimalMax("1.0") double resetRate,
+        @PositiveOrZero int dripChunkBytes,
+        @PositiveOrZero long dripDelayMillis) {
+
+    public static final int DEFAULT_ERROR_STATUS = 503;
+
+    public int errorStatusOrDefault() {
+        return errorStatus >= 500 && errorStatus < 600 ? errorStatus : DEFAULT_ERROR_STATUS;
+    }
+
+    public record Latency(Distribution distribution, @PositiveOrZero long millis, @PositiveOrZero long maxMillis) {
+
+        /**
+         * Samples a delay: {@code FIXED} always waits {@code millis}, {@code UNIFORM} waits between {@code millis}
+         * and {@code maxMillis}, and {@code EXPONENTIAL} has mean {@code millis} and is capped at {@code maxMillis}
+         * when set.
+         */
+        public long sample(SplittableRandom random) {
+            if (distribution == null) {
+                return millis;
+            }
+            return switch (distribution) {
+                case FIXED -> millis;
+                case UNIFORM -> maxMillis > millis ? random.nextLong(millis, maxMillis + 1) : millis;
+                case EXPONENTIAL -> {
+                    final long sample = Math.round(-millis * Math.log(1.0 - random.nextDouble()));
+                    yield maxMillis > 0 ? Math.min(sample, maxMillis) : sample;
+                }
+            };
+        }
+    }
+
+    public enum Distribution {
+        FIXED,
+        UNIFORM,
+        EXPONENTIAL
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete, numbered by a server-wide offset that increases by one per change.
+ */
+public record MockEmployeeChange(long offset, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
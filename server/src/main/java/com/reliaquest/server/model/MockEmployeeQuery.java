@@ -0,0 +1,86 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.Comparator;
+import java.util.function.Function;
+import lombok.Data;
+
+/**
+ * Optional filters, ordering and limit for listing employees, bound from query parameters. Ranges are inclusive and
+ * the name filter is a case-insensitive substring match.
+ */
+@Data
+public class MockEmployeeQuery {
+
+    private String nameContains;
+
+    @PositiveOrZero private Integer minSalary;
+
+    @PositiveOrZero private Integer maxSalary;
+
+    @PositiveOrZero private Integer minAge;
+
+    @PositiveOrZero private Integer maxAge;
+
+    private SortField sort;
+
+    private Direction direction = Direction.ASC;
+
+    @Positive private Integer limit;
+
+    public boolean isEmpty() {
+        return nameContains == null
+                && minSalary == null
+                && maxSalary == null
+                && minAge == null
+                && maxAge == null
+                && sort == null
+                && limit == null;
+    }
+
+    public boolean matches(MockEmployee employee) {
+        return (nameContains == null
+                        || (employee.getName() != null
+                                && employee.getName().toLowerCase().contains(nameContains.toLowerCase())))
+                && within(employee.getSalary(), minSalary, maxSalary)
+                && within(employee.getAge(), minAge, maxAge);
+    }
+
+    /**
+     * Orders by {@code sort} in {@code direction}; employees missing the sorted field come last either way.
+     */
+    public Comparator<MockEmployee> comparator() {
+        return sort.comparator(direction);
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    public enum SortField {
+        NAME(MockEmployee::getName, String.CASE_INSENSITIVE_ORDER),
+        SALARY(MockEmployee::getSalary, Comparator.<Integer>naturalOrder()),
+        AGE(MockEmployee::getAge, Comparator.<Integer>naturalOrder());
+
+        private final Comparator<MockEmployee> ascending;
+        private final Comparator<MockEmployee> descending;
+
+        <T> SortField(Function<MockEmployee, T> field, Comparator<T> order) {
+            this.ascending = Comparator.comparing(field, Comparator.nullsLast(order));
+            this.descending = Comparator.comparing(field, Comparator.nullsLast(order.reversed()));
+        }
+
+        Comparator<MockEmployee> comparator(Direction direction) {
+            return direction == Direction.DESC ? descending : ascending;
+        }
+    }
+
+    public enum Direction {
+        ASC,
+        DESC
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes {@link MockEmployee} field by field with pre-encoded names, avoiding the reflective bean serializer and the
+ * per-property naming strategy lookup. Names match {@link MockEmployee.PrefixNamingStrategy}.
+ */
+public class MockEmployeeSerializer extends StdSerializer<MockEmployee> {
+
+    static final SerializableString ID = new SerializedString("id");
+    static final SerializableString NAME = new SerializedString("employee_name");
+    static final SerializableString SALARY = new SerializedString("employee_salary");
+    static final SerializableString AGE = new SerializedString("employee_age");
+    static final SerializableString TITLE = new SerializedString("employee_title");
+    static final SerializableString EMAIL = new SerializedString("employee_email");
+
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<char[]> UUID_BUFFER = ThreadLocal.withInitial(() -> new char[UUID_LENGTH]);
+
+    public MockEmployeeSerializer() {
+        super(MockEmployee.class);
+    }
+
+    @Override
+    public void serialize(MockEmployee employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(employee);
+        gen.writeFieldName(ID);
+        writeUuid(employee.getId(), gen);
+        gen.writeFieldName(NAME);
+        gen.writeString(employee.getName());
+        gen.writeFieldName(SALARY);
+        writeInteger(employee.getSalary(), gen);
+        gen.writeFieldName(AGE);
+        writeInteger(employee.getAge(), gen);
+        gen.writeFieldName(TITLE);
+        gen.writeString(employee.getTitle());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(employee.getEmail());
+        gen.writeEndObject();
+    }
+
+    private static void writeInteger(Integer value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    /*
+     * Formats the canonical 8-4-4-4-12 form into a per-thread buffer instead of allocating via UUID.toString().
+     */
+    private static void writeUuid(UUID uuid, JsonGenerator gen) throws IOException {
+        if (uuid == null) {
+            gen.writeNull();
+            return;
+        }
+        final char[] buffer = UUID_BUFFER.get();
+        final long msb = uuid.getMostSignificantBits();
+        final long lsb = uuid.getLeastSignificantBits();
+        hex(msb >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        hex(msb, buffer, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, buffer, 24, 12);
+        gen.writeString(buffer, 0, UUID_LENGTH);
+    }
+
+    private static void hex(long value, char[] buffer, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
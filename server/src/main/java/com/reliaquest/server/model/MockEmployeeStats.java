@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Aggregates over the current employees. {@code topEarners} holds at most the configured number of employees, highest
+ * salary first; histogram buckets are {@code [from, to)} and only non-empty buckets are listed.
+ */
+public record MockEmployeeStats(
+        int count,
+        Integer minSalary,
+        Integer maxSalary,
+        long totalSalary,
+        List<MockEmployee> topEarners,
+        List<Bucket> salaryHistogram,
+        List<Bucket> ageHistogram) {
+
+    public record Bucket(int from, int to, int count) {}
+}
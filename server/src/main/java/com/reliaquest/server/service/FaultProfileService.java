@@ -0,0 +1,102 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.FaultProperties;
+import com.reliaquest.server.model.FaultInjection;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultRule;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * Holds the configured fault profiles and the one currently active, and decides which faults each request receives.
+ *
+ * <p>Each request is assigned the next sequence number of the active profile and draws its faults from a random
+ * generator seeded by the profile seed and that number, so replaying the same request order after (re)activating a
+ * profile reproduces the same faults.
+ */
+@Slf4j
+@Service
+public class FaultProfileService {
+
+    private static final long SEQUENCE_MIX = 0x9E3779B97F4A7C15L;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, FaultProfile> profiles = new LinkedHashMap<>();
+    private final AtomicReference<ActiveProfile> active = new AtomicReference<>();
+
+    public FaultProfileService(FaultProperties properties) {
+        properties.profiles().forEach(profile -> profiles.put(profile.name(), profile));
+        if (StringUtils.hasText(properties.active())) {
+            activate(properties.active()).orElseThrow(() -> new IllegalStateException(
+                    "Unknown fault profile '%s'.".formatted(properties.active())));
+        }
+    }
+
+    public Collection<FaultProfile> getProfiles() {
+        return profiles.values();
+    }
+
+    public Optional<FaultProfile> getActive() {
+        return Optional.ofNullable(active.get()).map(ActiveProfile::profile);
+    }
+
+    public Optional<FaultProfile> activate(@NonNull String name) {
+        return Optional.ofNullable(profiles.get(name)).map(this::activate);
+    }
+
+    public FaultProfile activate(@NonNull FaultProfile profile) {
+        active.set(new ActiveProfile(profile, new AtomicLong()));
+        log.info("Activated fault profile: {}", profile);
+        return profile;
+    }
+
+    public void deactivate() {
+        if (active.getAndSet(null) != null) {
+            log.info("Deactivated fault injection.");
+        }
+    }
+
+    public Optional<FaultInjection> next(@NonNull String method, @NonNull String path) {
+        final var current = active.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        for (FaultRule rule : current.profile().rules()) {
+            if (matches(rule, method, path)) {
+                final long sequence = current.sequence().getAndIncrement();
+                return Optional.of(decide(
+                        rule, new SplittableRandom(current.profile().seed() ^ (sequence * SEQUENCE_MIX))));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean matches(FaultRule rule, String method, String path) {
+        return (!StringUtils.hasText(rule.method()) || rule.method().equalsIgnoreCase(method))
+                && (!StringUtils.hasText(rule.path()) || pathMatcher.match(rule.path(), path));
+    }
+
+    private static FaultInjection decide(FaultRule rule, SplittableRandom random) {
+        final long delayMillis = rule.latency() == null ? 0 : rule.latency().sample(random);
+        final boolean error = random.nextDouble() < rule.errorRate();
+        final boolean reset = random.nextDouble() < rule.resetRate();
+        return new FaultInjection(
+                delayMillis,
+                error ? rule.errorStatusOrDefault() : 0,
+                !error && reset,
+                rule.dripChunkBytes(),
+                rule.dripDelayMillis());
+    }
+
+    private record ActiveProfile(FaultProfile profile, AtomicLong sequence) {}
+}
@@ -0,0 +1,203 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Publishes employee creates and deletes as Server-Sent Events. Each event's {@code id} is {@code epoch:offset}, where
+ * the epoch is drawn at startup and the offset numbers the change, so a client that reconnects with
+ * {@code Last-Event-ID} is first sent every change it missed, from a ring of the last {@code mock.changes.retention}
+ * changes, and then live ones.
+ *
+ * <p>On connect a client is sent a {@code ready} event carrying the latest offset. If the changes it asks to resume
+ * after are no longer retained, or its event id comes from another epoch, that is from before a restart, it is sent a
+ * {@code reset} event instead and should fetch every employee again.
+ *
+ * <p>Changes are queued per subscriber and sent from a separate thread, so a slow client never holds up the write that
+ * made the change. A subscriber that falls a full ring behind is disconnected and resumes when it reconnects.
+ */
+@Slf4j
+@Component
+public class MockEmployeeChangeLog {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final MockEmployeeChange[] retained;
+    private final long emitterTimeoutMillis;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newCachedThreadPool(task -> {
+        final var thread = new Thread(task, "employee-changes-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long nextOffset = 1;
+
+    public MockEmployeeChangeLog(
+            @Value("${mock.changes.retention:10000}") int retention,
+            @Value("${mock.changes.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.retained = new MockEmployeeChange[Math.max(1, retention)];
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    public synchronized void append(@NonNull MockEmployeeChange.Type type, @NonNull MockEmployee employee) {
+        final var change = new MockEmployeeChange(nextOffset++, type, employee);
+        retained[slot(change.offset())] = change;
+        final var event = event(change);
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    /**
+     * Opens a stream of changes after event id {@code after}, or of changes from now on when {@code after} is
+     * {@code null}.
+     */
+    public SseEmitter subscribe(String after) {
+        final var emitter = newEmitter(emitterTimeoutMillis);
+        final var subscriber = new Subscriber(emitter, retained.length + 1);
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(failure -> subscriber.detach());
+        synchronized (this) {
+            subscribers.add(subscriber);
+            final long head = nextOffset - 1;
+            final long oldest = Math.max(1, nextOffset - retained.length);
+            final long resumeAfter = after == null ? head : offsetOf(after);
+            if (resumeAfter < oldest - 1 || resumeAfter > head) {
+                log.debug(
+                        "Change stream resume after {} is outside {}:[{}, {}], sending reset",
+                        after,
+                        epoch,
+                        oldest - 1,
+                        head);
+                subscriber.offer(new Event("reset", eventId(head), head));
+            } else {
+                subscriber.offer(new Event("ready", eventId(head), head));
+                for (long offset = resumeAfter + 1; offset < nextOffset; offset++) {
+                    subscriber.offer(event(retained[slot(offset)]));
+                }
+            }
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Creates the emitter a new subscriber's events are sent to.
+     */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * @return the offset in {@code eventId} if it was issued in this epoch, otherwise -1
+     */
+    private long offsetOf(String eventId) {
+        if (!eventId.startsWith(epoch + ":")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long offset) {
+        return epoch + ":" + offset;
+    }
+
+    private Event event(MockEmployeeChange change) {
+        return new Event(change.type().name().toLowerCase(Locale.ROOT), eventId(change.offset()), change.employee());
+    }
+
+    private int slot(long offset) {
+        return (int) (offset % retained.length);
+    }
+
+    private record Event(String name, String id, Object data) {}
+
+    /**
+     * One client's stream: events wait in {@code pending} and are sent by at most one sender thread at a time.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> pending;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean detached;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.pending = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void offer(Event event) {
+            if (detached) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                log.debug("Change stream subscriber fell {} changes behind, disconnecting", pending.size());
+                detach();
+                // Completing waits for a send in progress, so leave it to a sender thread.
+                senders.execute(emitter::complete);
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        void detach() {
+            detached = true;
+            subscribers.remove(this);
+            pending.clear();
+        }
+
+        private void drain() {
+            do {
+                Event event;
+                while (!detached && (event = pending.poll()) != null) {
+                    send(event);
+                }
+                sending.set(false);
+            } while (!detached && !pending.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        private void send(Event event) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(event.id())
+                        .name(event.name())
+                        .data(event.data(), MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping change stream subscriber: {}", e.getMessage());
+                detach();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
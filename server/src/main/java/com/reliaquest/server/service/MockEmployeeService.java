@@ -1,58 +1,137 @@
 package com.reliaquest.server.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import com.reliaquest.server.model.MockEmployeeStats;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.stereotype.Service;
 
+/**
+ * Serves the mock employees from an immutable {@link MockEmployeeSnapshot}. Writes are serialized and copy the list,
+ * then publish the next snapshot with a single volatile write, so reads never lock and never see a partial change.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStatistics statistics;
+
+    private final MockEmployeeChangeLog changeLog;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectMapper smileObjectMapper;
+
+    private final MockIdempotencyStore idempotencyStore;
+
+    private volatile MockEmployeeSnapshot snapshot;
+
+    public MockEmployeeService(
+            Faker faker,
+            List<MockEmployee> mockEmployees,
+            MockEmployeeStatistics statistics,
+            MockEmployeeChangeLog changeLog,
+            ObjectMapper objectMapper,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            MockIdempotencyStore idempotencyStore) {
+        this.faker = faker;
+        this.statistics = statistics;
+        this.changeLog = changeLog;
+        this.objectMapper = objectMapper;
+        this.smileObjectMapper = smileConverter.getObjectMapper();
+        this.idempotencyStore = idempotencyStore;
+        this.snapshot = new MockEmployeeSnapshot(1, mockEmployees, objectMapper, smileObjectMapper);
+    }
+
+    public MockEmployeeSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public List<MockEmployee> query(@NonNull MockEmployeeQuery query) {
+        final List<MockEmployee> employees = snapshot.getEmployees();
+        if (query.isEmpty()) {
+            return employees;
+        }
+        var matches = employees.stream().filter(query::matches);
+        if (query.getSort() != null) {
+            matches = matches.sorted(query.comparator());
+        }
+        if (query.getLimit() != null) {
+            matches = matches.limit(query.getLimit());
+        }
+        return matches.toList();
+    }
+
+    public MockEmployeeStats stats() {
+        return statistics.snapshot();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
+        return snapshot.getEmployees().stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
                         && mockEmployee.getId().equals(uuid))
                 .findFirst();
     }
 
-    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+    /**
+     * Creates the employee once per {@code idempotencyKey}; repeating a create with the same key returns the employee
+     * it created. Without a key every call creates a new employee.
+     */
+    public MockEmployee create(@NonNull CreateMockEmployeeInput input, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return create(input);
+        }
+        return idempotencyStore.execute(idempotencyKey, input, () -> create(input));
+    }
+
+    public synchronized MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        final var employees = new ArrayList<>(snapshot.getEmployees());
+        employees.add(mockEmployee);
+        publish(employees);
+        statistics.added(mockEmployee);
+        changeLog.append(MockEmployeeChange.Type.CREATED, mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
+    public synchronized boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var mockEmployee = snapshot.getEmployees().stream()
                 .filter(employee -> Objects.nonNull(employee.getName())
                         && employee.getName().equalsIgnoreCase(input.getName()))
                 .findFirst();
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
+            final var employees = new ArrayList<>(snapshot.getEmployees());
+            employees.remove(mockEmployee.get());
+            publish(employees);
+            statistics.removed(mockEmployee.get());
+            changeLog.append(MockEmployeeChange.Type.DELETED, mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private void publish(List<MockEmployee> employees) {
+        snapshot = new MockEmployeeSnapshot(snapshot.getVersion() + 1, employees, objectMapper, smileObjectMapper);
+    }
 }
@@ -0,0 +1,109 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+
+/**
+ * One immutable version of the employee list. Every create or delete publishes a new snapshot, so a reader holding one
+ * never sees the list change under it.
+ *
+ * <p>The full list response is encoded on first use, once per version, both as JSON and as gzip-compressed JSON, and
+ * separately as Smile on the first request for it; every later unfiltered list request for the same version is served
+ * by writing those bytes.
+ */
+public final class MockEmployeeSnapshot {
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final List<MockEmployee> employees;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileObjectMapper;
+    private volatile Encoded encoded;
+    private volatile byte[] smile;
+
+    MockEmployeeSnapshot(
+            long version, List<MockEmployee> employees, ObjectMapper objectMapper, ObjectMapper smileObjectMapper) {
+        this.version = version;
+        this.employees = List.copyOf(employees);
+        this.objectMapper = objectMapper;
+        this.smileObjectMapper = smileObjectMapper;
+    }
+
+    /**
+     * @return the {@code Response} envelope of every employee, as JSON
+     */
+    public byte[] json() {
+        return encoded().json();
+    }
+
+    /**
+     * @return {@link #json()} compressed with gzip
+     */
+    public byte[] gzip() {
+        return encoded().gzip();
+    }
+
+    /**
+     * @return the {@code Response} envelope of every employee, as Smile
+     */
+    public byte[] smile() {
+        byte[] current = smile;
+        if (current == null) {
+            synchronized (this) {
+                current = smile;
+                if (current == null) {
+                    current = encode(smileObjectMapper);
+                    smile = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Encoded encoded() {
+        Encoded current = encoded;
+        if (current == null) {
+            synchronized (this) {
+                current = encoded;
+                if (current == null) {
+                    current = encode();
+                    encoded = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Encoded encode() {
+        try {
+            final byte[] json = encode(objectMapper);
+            final var compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (var gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new Encoded(json, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode employee list version " + version, e);
+        }
+    }
+
+    private byte[] encode(ObjectMapper mapper) {
+        try {
+            return mapper.writeValueAsBytes(Response.handledWith(employees));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode employee list version " + version, e);
+        }
+    }
+
+    private record Encoded(byte[] json, byte[] gzip) {}
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeStats;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps salary and age aggregates up to date as employees are added and removed, so reading them never scans the
+ * employee list.
+ *
+ * <p>Employees are indexed in a set ordered by salary, highest first, which serves min, max and top-K and tolerates
+ * deletes in O(log n). Histograms count employees per fixed-width bucket. Every change republishes an immutable
+ * {@link MockEmployeeStats} in O(K + buckets), so {@link #snapshot()} is a single volatile read.
+ */
+@Component
+public class MockEmployeeStatistics {
+
+    private static final Comparator<MockEmployee> HIGHEST_SALARY_FIRST = Comparator.comparing(
+                    MockEmployee::getSalary, Comparator.nullsLast(Comparator.<Integer>reverseOrder()))
+            .thenComparing(MockEmployee::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final int topK;
+    private final int salaryBucketWidth;
+    private final int ageBucketWidth;
+    private final TreeSet<MockEmployee> bySalary = new TreeSet<>(HIGHEST_SALARY_FIRST);
+    private final TreeMap<Integer, Integer> salaryBuckets = new TreeMap<>();
+    private final TreeMap<Integer, Integer> ageBuckets = new TreeMap<>();
+    private long totalSalary;
+
+    private volatile MockEmployeeStats snapshot;
+
+    public MockEmployeeStatistics(
+            List<MockEmployee> mockEmployees,
+            @Value("${mock.stats.top-k:10}") int topK,
+            @Value("${mock.stats.salary-bucket-width:50000}") int salaryBucketWidth,
+            @Value("${mock.stats.age-bucket-width:10}") int ageBucketWidth) {
+        this.topK = Math.max(1, topK);
+        this.salaryBucketWidth = Math.max(1, salaryBucketWidth);
+        this.ageBucketWidth = Math.max(1, ageBucketWidth);
+        mockEmployees.forEach(this::index);
+        publish();
+    }
+
+    public MockEmployeeStats snapshot() {
+        return snapshot;
+    }
+
+    public synchronized void added(@NonNull MockEmployee employee) {
+        index(employee);
+        publish();
+    }
+
+    public synchronized void removed(@NonNull MockEmployee employee) {
+        if (!bySalary.remove(employee)) {
+            return;
+        }
+        if (employee.getSalary() != null) {
+            totalSalary -= employee.getSalary();
+            adjust(salaryBuckets, employee.getSalary(), salaryBucketWidth, -1);
+        }
+        if (employee.getAge() != null) {
+            adjust(ageBuckets, employee.getAge(), ageBucketWidth, -1);
+        }
+        publish();
+    }
+
+    private void index(MockEmployee employee) {
+        if (!bySalary.add(employee)) {
+            return;
+        }
+        if (employee.getSalary() != null) {
+            totalSalary += employee.getSalary();
+            adjust(salaryBuckets, employee.getSalary(), salaryBucketWidth, 1);
+        }
+        if (employee.getAge() != null) {
+            adjust(ageBuckets, employee.getAge(), ageBucketWidth, 1);
+        }
+    }
+
+    private static void adjust(TreeMap<Integer, Integer> buckets, int value, int width, int delta) {
+        buckets.merge(Math.floorDiv(value, width) * width, delta, (count, change) -> {
+            final int updated = count + change;
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    private void publish() {
+        final List<MockEmployee> topEarners = new ArrayList<>(Math.min(topK, bySalary.size()));
+        for (MockEmployee employee : bySalary) {
+            if (topEarners.size() == topK) {
+                break;
+            }
+            topEarners.add(employee);
+        }
+        snapshot = new MockEmployeeStats(
+                bySalary.size(),
+                salaryOf(lowestPaid()),
+                salaryOf(bySalary.isEmpty() ? null : bySalary.first()),
+                totalSalary,
+                List.copyOf(topEarners),
+                histogram(salaryBuckets, salaryBucketWidth),
+                histogram(ageBuckets, ageBucketWidth));
+    }
+
+    /** Employees without a salary sort last, so the lowest paid is the last one that has a salary. */
+    private MockEmployee lowestPaid() {
+        final var descending = bySalary.descendingIterator();
+        while (descending.hasNext()) {
+            final MockEmployee employee = descending.next();
+            if (employee.getSalary() != null) {
+                return employee;
+            }
+        }
+        return null;
+    }
+
+    private static Integer salaryOf(MockEmployee employee) {
+        return employee == null ? null : employee.getSalary();
+    }
+
+    private static List<MockEmployeeStats.Bucket> histogram(Map<Integer, Integer> buckets, int width) {
+        return buckets.entrySet().stream()
+                .map(bucket ->
+                        new MockEmployeeStats.Bucket(bucket.getKey(), bucket.getKey() + width, bucket.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the outcome of writes sent with an {@code Idempotency-Key}, so a client retrying a write whose response it
+ * never saw gets the original result instead of a second write. A repeat that arrives while the first is still running
+ * waits for it; a write that fails is forgotten, so it can be retried under the same key.
+ *
+ * <p>Results are kept for {@code mock.idempotency.ttl} after the write completes, and at most
+ * {@code mock.idempotency.max-keys} of them, oldest evicted first. A key whose write is still running is never
+ * evicted, so a repeat cannot slip past it. Reusing a key for a different request is refused with
+ * {@link KeyReusedException}.
+ */
+@Slf4j
+@Component
+public class MockIdempotencyStore {
+
+    private final long ttlNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> oldestFirst = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    public MockIdempotencyStore(
+            @Value("${mock.idempotency.ttl:1h}") Duration ttl,
+            @Value("${mock.idempotency.max-keys:10000}") int maxKeys) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxKeys = Math.max(1, maxKeys);
+    }
+
+    /**
+     * Runs {@code write} once for {@code key}, returning its result to every request made with the key until the key
+     * expires or is evicted.
+     *
+     * @param request the request made with the key, compared with {@link Object#equals} to detect key reuse
+     * @throws KeyReusedException if the key was used for a different request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(@NonNull String key, @NonNull Object request, @NonNull Supplier<T> write) {
+        while (true) {
+            final long now = System.nanoTime();
+            final Entry claim = new Entry(key, request);
+            final Entry entry = entries.compute(
+                    key, (ignored, current) -> current == null || current.expired(now) ? claim : current);
+            if (entry == claim) {
+                return run(claim, write);
+            }
+            if (!Objects.equals(entry.request, request)) {
+                throw new KeyReusedException(key);
+            }
+            try {
+                final T result = (T) entry.result.join();
+                log.debug("Replaying result for idempotency key {}", key);
+                return result;
+            } catch (CompletionException e) {
+                // The first write failed and gave up the key; claim it for this attempt.
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private <T> T run(Entry claim, Supplier<T> write) {
+        final T result;
+        try {
+            result = write.get();
+        } catch (RuntimeException | Error e) {
+            entries.remove(claim.key, claim);
+            claim.result.completeExceptionally(e);
+            throw e;
+        }
+        final long now = System.nanoTime();
+        claim.complete(result, now + ttlNanos);
+        oldestFirst.add(claim);
+        completed.incrementAndGet();
+        evict(now);
+        return result;
+    }
+
+    /**
+     * Drops completed entries that have expired or exceed {@code maxKeys}, oldest first. Only completed entries are
+     * queued, so one whose write is still running is never dropped.
+     */
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = oldestFirst.peek()) != null && (oldest.expired(now) || completed.get() > maxKeys)) {
+            if (oldestFirst.remove(oldest)) {
+                completed.decrementAndGet();
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final Object request;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAtNanos;
+
+        Entry(String key, Object request) {
+            this.key = key;
+            this.request = request;
+        }
+
+        void complete(Object value, long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+            result.complete(value);
+        }
+
+        boolean expired(long now) {
+            return result.isDone() && now - expiresAtNanos >= 0;
+        }
+    }
+
+    public static class KeyReusedException extends RuntimeException {
+
+        public KeyReusedException(String key) {
+            super("Idempotency key " + key + " was already used for a different request.");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultInjection;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultProfileService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Injects the faults of the active {@link com.reliaquest.server.model.FaultProfile}: added latency, 5xx errors,
+ * connections dropped mid-response and bodies written in slow chunks. Requests under {@code excludedPathPrefix} are
+ * never affected so the profile can always be switched.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final int RESET_DECLARED_LENGTH = 1024;
+
+    private final FaultProfileService faultProfileService;
+    private final ObjectMapper objectMapper;
+    private final String excludedPathPrefix;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(excludedPathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var injection = faultProfileService.next(request.getMethod(), request.getRequestURI());
+        if (injection.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final FaultInjection fault = injection.get();
+        log.debug("Injecting {} into {} {}", fault, request.getMethod(), request.getRequestURI());
+        sleep(fault.delayMillis());
+        if (fault.errorStatus() > 0) {
+            response.setStatus(fault.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+        } else if (fault.reset()) {
+            // Promise a body, send only the headers, then fail so the container drops the connection mid-response.
+            response.setContentLength(RESET_DECLARED_LENGTH);
+            response.flushBuffer();
+            throw new IOException("Injected connection reset.");
+        } else if (fault.drips()) {
+            final var dripping = new DripResponseWrapper(response, fault.dripChunkBytes(), fault.dripDelayMillis());
+            filterChain.doFilter(request, dripping);
+            dripping.flushBuffer();
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency.");
+        }
+    }
+
+    /**
+     * Writes the body in chunks of at most {@code chunkBytes}, flushing and pausing after each one.
+     */
+    private static class DripResponseWrapper extends HttpServletResponseWrapper {
+
+        private final int chunkBytes;
+        private final long delayMillis;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        DripResponseWrapper(HttpServletResponse response, int chunkBytes, long delayMillis) {
+            super(response);
+            this.chunkBytes = chunkBytes;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DripOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+
+        private class DripOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            DripOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                for (int written = 0; written < len; written += chunkBytes) {
+                    delegate.write(b, off + written, Math.min(chunkBytes, len - written));
+                    delegate.flush();
+                    sleep(delayMillis);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
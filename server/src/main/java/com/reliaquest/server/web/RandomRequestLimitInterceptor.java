@@ -3,46 +3,126 @@ package com.reliaquest.server.web;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * Rate limits requests per client. Each client may issue {@code requestLimit} requests, after which it is rejected with
+ * 429 until {@code backoff} has elapsed since its last accepted request.
+ *
+ * <p>Per-client state is a single {@link AtomicLong} packing the last accepted timestamp (milliseconds on the monotonic
+ * clock) and the request count, updated with a CAS loop so the hot path neither locks nor allocates. Clients are keyed
+ * by {@code clientKeyHeader} when present, otherwise by remote address, and held in a map bounded by
+ * {@code maxClients}; once full, idle clients are purged and any remaining overflow shares a single window.
+ *
+ * <p>Every response carries the client's quota in {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining}, and a
+ * 429 says in {@code Retry-After} how many seconds are left until the client may try again.
+ */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    // The count shares its AtomicLong with the timestamp, so a larger limit would overflow into the timestamp bits.
+    public static final int MAX_REQUEST_LIMIT = (int) COUNT_MASK;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long MILLIS_PER_SECOND = 1_000L;
+
+    @Getter
+    private final int requestLimit;
+
+    @Getter
+    private final Duration backoff;
+
+    private final long backoffMillis;
+    private final String clientKeyHeader;
+    private final int maxClients;
+    private final long origin = System.nanoTime();
+    private final ConcurrentHashMap<String, AtomicLong> clients = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong();
+
+    /**
+     * @param requestLimit requests allowed per client before backing off, at most {@value #MAX_REQUEST_LIMIT};
+     *     non-positive picks a random limit in [5, 10)
+     * @param backoff time a throttled client must wait; {@code null} or zero picks a random duration in [30s, 90s)
+     * @param clientKeyHeader header identifying the client, blank to key on remote address only
+     * @param maxClients upper bound on tracked clients
+     * @throws IllegalArgumentException if {@code requestLimit} does not fit the packed request count
+     */
+    public RandomRequestLimitInterceptor(int requestLimit, Duration backoff, String clientKeyHeader, int maxClients) {
+        if (requestLimit > MAX_REQUEST_LIMIT) {
+            throw new IllegalArgumentException("Request limit %d exceeds the maximum of %d per client."
+                    .formatted(requestLimit, MAX_REQUEST_LIMIT));
+        }
+        this.requestLimit = requestLimit > 0 ? requestLimit : RandomGenerator.getDefault().nextInt(5, 10);
+        this.backoff = backoff != null && !backoff.isZero()
+                ? backoff
+                : Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+        this.backoffMillis = this.backoff.toMillis();
+        this.clientKeyHeader = clientKeyHeader;
+        this.maxClients = Math.max(1, maxClients);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
+        final long now = nowMillis();
+        final AtomicLong window = windowFor(clientKey(request), now);
+        while (true) {
+            final long state = window.get();
+            final int count = (int) (state & COUNT_MASK);
+            final long waitMillis = backoffMillis - (now - (state >>> COUNT_BITS));
+            if (count >= requestLimit && waitMillis > 0) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(LIMIT_HEADER, Integer.toString(requestLimit));
+                response.setHeader(REMAINING_HEADER, "0");
+                response.setHeader(
+                        HttpHeaders.RETRY_AFTER,
+                        Long.toString((waitMillis + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND));
                 return false;
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            // A client over its limit whose backoff has elapsed starts a fresh window with this request.
+            final int next = count >= requestLimit ? 1 : count + 1;
+            if (window.compareAndSet(state, (now << COUNT_BITS) | next)) {
+                response.setHeader(LIMIT_HEADER, Integer.toString(requestLimit));
+                response.setHeader(REMAINING_HEADER, Integer.toString(requestLimit - next));
+                return true;
             }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
+    }
 
-        return true;
+    private String clientKey(HttpServletRequest request) {
+        if (StringUtils.hasText(clientKeyHeader)) {
+            final String key = request.getHeader(clientKeyHeader);
+            if (StringUtils.hasText(key)) {
+                return key;
+            }
+        }
+        return request.getRemoteAddr();
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
+    private AtomicLong windowFor(String key, long now) {
+        final AtomicLong window = clients.get(key);
+        if (window != null) {
+            return window;
+        }
+        if (clients.size() >= maxClients) {
+            clients.values().removeIf(idle -> now - (idle.get() >>> COUNT_BITS) >= backoffMillis);
+            if (clients.size() >= maxClients) {
+                return overflow;
+            }
         }
+        return clients.computeIfAbsent(key, ignored -> new AtomicLong(now << COUNT_BITS));
+    }
+
+    private long nowMillis() {
+        return (System.nanoTime() - origin) / NANOS_PER_MILLI;
     }
 }
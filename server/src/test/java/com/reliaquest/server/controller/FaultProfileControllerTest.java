@@ -0,0 +1,135 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultProperties;
+import com.reliaquest.server.config.WebConfiguration;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultRule;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultProfileService;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class FaultProfileControllerTest {
+
+    static final FaultProfile ALWAYS_FAIL =
+            new FaultProfile("always-fail", 42, List.of(new FaultRule(null, null, null, 1.0, 0, 0, 0, 0)));
+    static final FaultProfile CALM = new FaultProfile("calm", 42, List.of());
+
+    FaultProfileService faultProfileService;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        faultProfileService = new FaultProfileService(new FaultProperties(null, List.of(ALWAYS_FAIL, CALM)));
+        mockMvc = MockMvcBuilders.standaloneSetup(new FaultProfileController(faultProfileService), new Employees())
+                .addFilters(new FaultInjectionFilter(
+                        faultProfileService, new ObjectMapper(), WebConfiguration.ADMIN_PATH_PREFIX))
+                .build();
+    }
+
+    @Test
+    void testProfiles_listedInConfiguredOrder() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/faults"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].name", contains("always-fail", "calm")));
+    }
+
+    @Test
+    void testSwitchingProfiles_atRuntime() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/faults/active")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/v1/admin/faults/active/always-fail"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("always-fail"));
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Injected fault."));
+
+        // Admin endpoints stay reachable while every other request fails.
+        mockMvc.perform(get("/api/v1/admin/faults/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("always-fail"));
+
+        mockMvc.perform(put("/api/v1/admin/faults/active/calm")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/v1/admin/faults/active/always-fail")).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/admin/faults/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(true));
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/admin/faults/active")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUnknownProfile_notFoundAndActiveKept() throws Exception {
+        mockMvc.perform(put("/api/v1/admin/faults/active/calm")).andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/v1/admin/faults/active/missing")).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/v1/admin/faults/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("calm"));
+    }
+
+    @Test
+    void testProfileFromBody_appliesPerRoute() throws Exception {
+        mockMvc.perform(put("/api/v1/admin/faults/active")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                {"name": "no-deletes", "seed": 7, "rules": [{
+                                  "method": "DELETE", "path": "/api/v1/employee/*", "errorRate": 1.0, "errorStatus": 500
+                                }]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("no-deletes"));
+
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/employee/42")).andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void testInvalidProfileBody_rejected() throws Exception {
+        mockMvc.perform(put("/api/v1/admin/faults/active")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"broken\", \"rules\": [{\"errorRate\": 2.0}]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/admin/faults/active")).andExpect(status().isNotFound());
+    }
+
+    /**
+     * Stands in for the employee endpoints the faults are injected into.
+     */
+    @RestController
+    static class Employees {
+
+        @GetMapping("/api/v1/employee")
+        public Response<List<String>> list() {
+            return Response.handledWith(List.of());
+        }
+
+        @DeleteMapping("/api/v1/employee/{id}")
+        public Response<Boolean> delete() {
+            return Response.handledWith(true);
+        }
+    }
+}
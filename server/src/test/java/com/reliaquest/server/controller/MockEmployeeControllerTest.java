@@ -0,0 +1,176 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStatistics;
+import com.reliaquest.server.service.MockIdempotencyStore;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    MockEmployeeChangeLog changeLog;
+    MockEmployeeService service;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        List<MockEmployee> employees = List.of(
+                employee("Tiger Nixon", 320800, 61),
+                employee("Garrett Winters", 170750, 63),
+                employee("Ashton Cox", 86000, 66),
+                employee("Cedric Kelly", 433060, 22),
+                employee("Airi Satou", 162700, 33),
+                employee("Brielle Williamson", 372000, 61));
+        changeLog = new MockEmployeeChangeLog(100, Duration.ofMinutes(1));
+        service = new MockEmployeeService(
+                new Faker(),
+                employees,
+                new MockEmployeeStatistics(employees, 10, 50000, 10),
+                changeLog,
+                new ObjectMapper(),
+                new MappingJackson2SmileHttpMessageConverter(),
+                new MockIdempotencyStore(Duration.ofMinutes(1), 100));
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(service, changeLog))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @AfterEach
+    void teardown() {
+        changeLog.stop();
+    }
+
+    @Test
+    void testQueryParameters_filterSortAndLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("nameContains", "I")
+                        .param("minAge", "30")
+                        .param("sort", "SALARY")
+                        .param("direction", "DESC")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].employee_name", contains("Brielle Williamson", "Tiger Nixon")));
+    }
+
+    @Test
+    void testSalaryRange_inclusive() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("minSalary", "162700").param("maxSalary", "320800"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(
+                        "$.data[*].employee_name", contains("Tiger Nixon", "Garrett Winters", "Airi Satou")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"minSalary=-1", "maxAge=-5", "limit=0", "maxSalary=lots", "sort=BONUS", "direction=SIDEWAYS"})
+    void testInvalidQueryParameters_rejected(String parameter) throws Exception {
+        mockMvc.perform(get("/api/v1/employee?" + parameter))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Failed to process request."));
+    }
+
+    @Test
+    void testUnfilteredList_writesSnapshotJson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        assertArrayEquals(service.snapshot().json(), result.getResponse().getContentAsByteArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "deflate, gzip;q=0.5", "GZIP;q=1.0"})
+    void testAcceptsGzip_writesPreCompressedJson(String acceptEncoding) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        assertArrayEquals(service.snapshot().gzip(), result.getResponse().getContentAsByteArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"deflate", "gzip;q=0", "gzip; q=0.0"})
+    void testGzipNotAccepted_writesPlainJson(String acceptEncoding) throws Exception {
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(service.snapshot().json()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/x-jackson-smile", "application/x-jackson-smile, application/json;q=0.9"})
+    void testPrefersSmile_writesSnapshotSmile(String accept) throws Exception {
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT, accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(service.snapshot().smile()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"*/*", "application/json, application/x-jackson-smile", "application/*;q=0.8, */*;q=0.1"})
+    void testNoSmilePreference_writesJson(String accept) throws Exception {
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT, accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(service.snapshot().json()));
+    }
+
+    @Test
+    void testWrite_listServedFromNewVersion() throws Exception {
+        byte[] before = service.snapshot().json();
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName("Jena Gaines");
+        input.setSalary(90560);
+        input.setAge(30);
+        input.setTitle("Office Manager");
+        service.create(input);
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(7))
+                .andExpect(content().bytes(service.snapshot().json()));
+        assertFalse(Arrays.equals(before, service.snapshot().json()));
+    }
+
+    static MockEmployee employee(String name, Integer salary, Integer age) {
+        return new MockEmployee(
+                UUID.randomUUID(),
+                name,
+                salary,
+                age,
+                "Engineer",
+                name.toLowerCase().replace(' ', '.') + "@company.com");
+    }
+}
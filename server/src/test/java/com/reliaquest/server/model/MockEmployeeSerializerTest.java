@@ -0,0 +1,65 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSerializerTest {
+
+    static final List<MockEmployee> EMPLOYEES = List.of(
+            new MockEmployee(UUID.randomUUID(), "Tiger Nixon", 320800, 61, "Architect", "tnixon@company.com"),
+            new MockEmployee(new UUID(0, 1), "Garrett \"G\" Winters", 0, 0, "Accountant", "gwinters@company.com"),
+            new MockEmployee(new UUID(-1, -1), "Ashton C\u00f6x \u2713", Integer.MAX_VALUE, -1, "", "acox@company.com"),
+            new MockEmployee(UUID.fromString("0a0b0c0d-0e0f-1011-a2a3-a4a5a6a7a8a9"), null, null, null, null, null),
+            new MockEmployee(null, "Nobody", 1, 2, "Intern", "nobody@company.com"));
+
+    final ObjectMapper streaming = new ObjectMapper();
+    final ObjectMapper databind = new ObjectMapper().addMixIn(MockEmployee.class, BeanCodecs.class);
+
+    @Test
+    void testSerialize_sameFieldsAndValuesAsPrefixNamingStrategy() throws Exception {
+        for (MockEmployee employee : EMPLOYEES) {
+            LinkedHashMap<String, Object> expected = fields(databind.writeValueAsBytes(employee));
+            LinkedHashMap<String, Object> written = fields(streaming.writeValueAsBytes(employee));
+
+            assertEquals(List.copyOf(expected.keySet()), List.copyOf(written.keySet()), employee.toString());
+            assertEquals(expected, written, employee.toString());
+        }
+    }
+
+    @Test
+    void testSerialize_writesPrefixedNamesAndCanonicalUuid() throws Exception {
+        LinkedHashMap<String, Object> written = fields(streaming.writeValueAsBytes(EMPLOYEES.get(3)));
+
+        assertEquals(
+                List.of("id", "employee_name", "employee_salary", "employee_age", "employee_title", "employee_email"),
+                List.copyOf(written.keySet()));
+        assertEquals("0a0b0c0d-0e0f-1011-a2a3-a4a5a6a7a8a9", written.get("id"));
+    }
+
+    @Test
+    void testSerializeList_matchesDatabind() throws Exception {
+        Response<List<MockEmployee>> response = Response.handledWith(EMPLOYEES);
+
+        assertEquals(
+                databind.readTree(databind.writeValueAsBytes(response)),
+                streaming.readTree(streaming.writeValueAsBytes(response)));
+    }
+
+    private LinkedHashMap<String, Object> fields(byte[] json) throws Exception {
+        return streaming.readValue(json, new TypeReference<LinkedHashMap<String, Object>>() {});
+    }
+
+    /**
+     * Mixed into {@link MockEmployee} to fall back to the reflective bean serializer and its naming strategy.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class BeanCodecs {}
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultProperties;
+import com.reliaquest.server.model.FaultInjection;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class FaultProfileServiceTest {
+
+    static final FaultRule FLAKY = new FaultRule(
+            "GET",
+            "/api/v1/employee/*",
+            new FaultRule.Latency(FaultRule.Distribution.EXPONENTIAL, 150, 3000),
+            0.2,
+            0,
+            0.1,
+            0,
+            0);
+    static final FaultRule SLOW_LIST = new FaultRule(
+            null,
+            "/api/v1/employee",
+            new FaultRule.Latency(FaultRule.Distribution.UNIFORM, 50, 500),
+            0.1,
+            500,
+            0,
+            256,
+            20);
+
+    @Test
+    void testSameSeedAndRequests_sameFaults() {
+        FaultProfile profile = new FaultProfile("slow-flaky", 42, List.of(FLAKY, SLOW_LIST));
+
+        List<Optional<FaultInjection>> first = replay(service(profile));
+        List<Optional<FaultInjection>> second = replay(service(profile));
+
+        assertEquals(first, second);
+        List<FaultInjection> injected = first.stream().flatMap(Optional::stream).toList();
+        assertTrue(injected.stream().anyMatch(fault -> fault.errorStatus() > 0));
+        assertTrue(injected.stream().anyMatch(FaultInjection::reset));
+        assertTrue(injected.stream().mapToLong(FaultInjection::delayMillis).distinct().count() > 1);
+    }
+
+    @Test
+    void testReactivatingProfile_restartsSequence() {
+        FaultProfileService service = service(new FaultProfile("slow-flaky", 42, List.of(FLAKY, SLOW_LIST)));
+        List<Optional<FaultInjection>> first = replay(service);
+
+        service.activate("slow-flaky");
+
+        assertEquals(first, replay(service));
+    }
+
+    @Test
+    void testOtherSeed_otherFaults() {
+        List<Optional<FaultInjection>> seeded42 = replay(service(new FaultProfile("a", 42, List.of(FLAKY))));
+        List<Optional<FaultInjection>> seeded7 = replay(service(new FaultProfile("a", 7, List.of(FLAKY))));
+
+        assertNotEquals(seeded42, seeded7);
+    }
+
+    @Test
+    void testUnmatchedRequests_doNotAdvanceSequence() {
+        FaultProfile profile = new FaultProfile("flaky", 42, List.of(FLAKY));
+        FaultProfileService quiet = service(profile);
+        FaultProfileService noisy = service(profile);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(noisy.next("POST", "/api/v1/employee").isEmpty());
+            assertEquals(quiet.next("GET", "/api/v1/employee/" + i), noisy.next("GET", "/api/v1/employee/" + i));
+        }
+    }
+
+    @Test
+    void testRules_matchMethodAndPathInOrder() {
+        FaultRule deleteById = rule("DELETE", "/api/v1/employee/*", 500);
+        FaultRule anyById = rule(null, "/api/v1/employee/*", 502);
+        FaultRule getList = rule("get", "/api/v1/employee", 504);
+        FaultProfileService service = service(new FaultProfile("routes", 1, List.of(deleteById, anyById, getList)));
+
+        assertEquals(500, service.next("DELETE", "/api/v1/employee/42").orElseThrow().errorStatus());
+        assertEquals(502, service.next("GET", "/api/v1/employee/42").orElseThrow().errorStatus());
+        assertEquals(504, service.next("GET", "/api/v1/employee").orElseThrow().errorStatus());
+        assertTrue(service.next("POST", "/api/v1/employee").isEmpty());
+        assertTrue(service.next("GET", "/api/v1/employee/42/salary").isEmpty());
+    }
+
+    @Test
+    void testBlankMethodAndPath_matchEverything() {
+        FaultProfileService service = service(new FaultProfile("all", 1, List.of(rule("", " ", 500))));
+
+        assertTrue(service.next("PATCH", "/anything/at/all").isPresent());
+    }
+
+    @Test
+    void testErrorStatusOutside5xx_defaultsTo503() {
+        FaultProfileService service = service(new FaultProfile("teapot", 1, List.of(rule(null, null, 418))));
+
+        assertEquals(FaultRule.DEFAULT_ERROR_STATUS, service.next("GET", "/").orElseThrow().errorStatus());
+    }
+
+    @Test
+    void testActivation_byNameOrProfileAndDeactivate() {
+        FaultProfile configured = new FaultProfile("configured", 1, List.of(rule(null, null, 500)));
+        FaultProfileService service = new FaultProfileService(new FaultProperties(null, List.of(configured)));
+        assertTrue(service.getActive().isEmpty());
+        assertTrue(service.next("GET", "/").isEmpty());
+
+        assertEquals(Optional.of(configured), service.activate("configured"));
+        assertEquals(Optional.of(configured), service.getActive());
+        assertTrue(service.next("GET", "/").isPresent());
+
+        assertTrue(service.activate("unknown").isEmpty());
+        assertEquals(Optional.of(configured), service.getActive());
+
+        FaultProfile adHoc = new FaultProfile("ad-hoc", 1, List.of());
+        service.activate(adHoc);
+        assertEquals(Optional.of(adHoc), service.getActive());
+        assertTrue(service.next("GET", "/").isEmpty());
+
+        service.deactivate();
+        assertTrue(service.getActive().isEmpty());
+    }
+
+    @Test
+    void testUnknownActiveProfileOnStartup_rejected() {
+        assertThrows(
+                IllegalStateException.class, () -> new FaultProfileService(new FaultProperties("missing", List.of())));
+    }
+
+    private static List<Optional<FaultInjection>> replay(FaultProfileService service) {
+        List<Optional<FaultInjection>> faults = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            faults.add(service.next("GET", i % 3 == 0 ? "/api/v1/employee" : "/api/v1/employee/" + i));
+        }
+        return faults;
+    }
+
+    static FaultProfileService service(FaultProfile profile) {
+        return new FaultProfileService(new FaultProperties(profile.name(), List.of(profile)));
+    }
+
+    static FaultRule rule(String method, String path, int errorStatus) {
+        return new FaultRule(method, path, null, 1.0, errorStatus, 0, 0, 0);
+    }
+}
@@ -0,0 +1,232 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class MockEmployeeChangeLogTest {
+
+    final MockEmployee employee = new MockEmployee(
+            UUID.randomUUID(), "Chirag", 1000, 24, "Engineer", "chirag@company.com");
+    final CountDownLatch release = new CountDownLatch(1);
+    MockEmployeeChangeLog changeLog;
+
+    @AfterEach
+    void teardown() {
+        release.countDown();
+        changeLog.stop();
+    }
+
+    @Test
+    void testEventIds_carryEpochAndOffset() throws Exception {
+        changeLog = changeLog(100);
+        RecordingEmitter subscriber = subscribe(null);
+
+        Sent ready = subscriber.next();
+        String epoch = epochOf(ready);
+        changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+        changeLog.append(MockEmployeeChange.Type.DELETED, employee);
+
+        assertEquals(new Sent("ready", epoch + ":0", 0L), ready);
+        assertEquals(new Sent("created", epoch + ":1", employee), subscriber.next());
+        assertEquals(new Sent("deleted", epoch + ":2", employee), subscriber.next());
+    }
+
+    @Test
+    void testLastEventId_resumesWithMissedChangesThenLiveOnes() throws Exception {
+        changeLog = changeLog(100);
+        String epoch = epochOf(subscribe(null).next());
+        for (int i = 0; i < 3; i++) {
+            changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+        }
+
+        RecordingEmitter resumed = subscribe(epoch + ":1");
+        changeLog.append(MockEmployeeChange.Type.DELETED, employee);
+
+        assertEquals(new Sent("ready", epoch + ":3", 3L), resumed.next());
+        assertEquals(epoch + ":2", resumed.next().id());
+        assertEquals(epoch + ":3", resumed.next().id());
+        assertEquals(new Sent("deleted", epoch + ":4", employee), resumed.next());
+    }
+
+    @Test
+    void testLastEventIdAtHead_onlyReady() throws Exception {
+        changeLog = changeLog(100);
+        String epoch = epochOf(subscribe(null).next());
+        changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+
+        RecordingEmitter resumed = subscribe(epoch + ":1");
+
+        assertEquals(new Sent("ready", epoch + ":1", 1L), resumed.next());
+        assertNull(resumed.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testOffsetAgedOutOfRing_reset() throws Exception {
+        changeLog = changeLog(2);
+        String epoch = epochOf(subscribe(null).next());
+        for (int i = 0; i < 5; i++) {
+            changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+        }
+
+        RecordingEmitter agedOut = subscribe(epoch + ":2");
+        RecordingEmitter oldestRetained = subscribe(epoch + ":3");
+
+        assertEquals(new Sent("reset", epoch + ":5", 5L), agedOut.next());
+        assertNull(agedOut.sent.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(new Sent("ready", epoch + ":5", 5L), oldestRetained.next());
+        assertEquals(epoch + ":4", oldestRetained.next().id());
+        assertEquals(epoch + ":5", oldestRetained.next().id());
+    }
+
+    @Test
+    void testOtherEpochOrUnknownOffset_reset() throws Exception {
+        changeLog = changeLog(100);
+        String epoch = epochOf(subscribe(null).next());
+        changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+
+        for (String after : new String[] {epoch + "0:1", "1", epoch + ":one", epoch + ":2"}) {
+            assertEquals(new Sent("reset", epoch + ":1", 1L), subscribe(after).next(), after);
+        }
+    }
+
+    @Test
+    void testSlowSubscriber_doesNotHoldUpWritesOrOthers_andIsDisconnectedWhenFull() throws Exception {
+        RecordingEmitter stuck = new RecordingEmitter(release);
+        changeLog = changeLog(2, stuck);
+        subscribe(null);
+        RecordingEmitter fast = subscribe(null);
+        fast.next();
+        assertEquals(2, changeLog.subscriberCount());
+
+        // The stuck subscriber's sender is blocked on its ready event; its queue holds retention + 1 changes.
+        for (int i = 1; i <= 4; i++) {
+            changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+            assertTrue(fast.next().id().endsWith(":" + i));
+        }
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, changeLog.subscriberCount());
+    }
+
+    @Test
+    void testFailedSend_dropsSubscriber() throws Exception {
+        changeLog = changeLog(100);
+        RecordingEmitter subscriber = subscribe(null);
+        subscriber.next();
+        subscriber.failing = true;
+
+        changeLog.append(MockEmployeeChange.Type.CREATED, employee);
+
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, changeLog.subscriberCount());
+    }
+
+    private RecordingEmitter subscribe(String after) {
+        return (RecordingEmitter) changeLog.subscribe(after);
+    }
+
+    private static String epochOf(Sent event) {
+        return event.id().substring(0, event.id().indexOf(':'));
+    }
+
+    private MockEmployeeChangeLog changeLog(int retention) {
+        return changeLog(retention, null);
+    }
+
+    /**
+     * @param first emitter for the first subscriber, or {@code null} to record every subscriber without blocking
+     */
+    private MockEmployeeChangeLog changeLog(int retention, RecordingEmitter first) {
+        return new MockEmployeeChangeLog(retention, Duration.ofMinutes(1)) {
+
+            private RecordingEmitter next = first;
+
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                final RecordingEmitter emitter = next != null ? next : new RecordingEmitter(null);
+                next = null;
+                return emitter;
+            }
+        };
+    }
+
+    record Sent(String name, String id, Object data) {}
+
+    /**
+     * Records sent events instead of writing them to a response, optionally blocking each send until {@code gate}
+     * opens.
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch gate;
+        volatile boolean failing;
+
+        RecordingEmitter(CountDownLatch gate) {
+            super(0L);
+            this.gate = gate;
+        }
+
+        Sent next() throws InterruptedException {
+            Sent event = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "no event sent");
+            return event;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (gate != null) {
+                try {
+                    gate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data = part.getData();
+                }
+            }
+            String name = null;
+            String id = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("id:")) {
+                    id = line.substring("id:".length());
+                }
+            }
+            sent.add(new Sent(name, id, data));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable failure) {
+            completed.countDown();
+        }
+    }
+}
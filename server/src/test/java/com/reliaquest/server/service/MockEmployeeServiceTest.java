@@ -0,0 +1,199 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+class MockEmployeeServiceTest {
+
+    static final List<MockEmployee> EMPLOYEES = List.of(
+            employee("Tiger Nixon", 320800, 61),
+            employee("Garrett Winters", 170750, 63),
+            employee("Ashton Cox", 86000, 66),
+            employee("Cedric Kelly", 433060, 22),
+            employee("Airi Satou", 162700, 33),
+            employee("Brielle Williamson", 372000, 61),
+            employee("Tina Unknown", null, null));
+
+    MockEmployeeChangeLog changeLog;
+    MockEmployeeService service;
+
+    @BeforeEach
+    void setup() {
+        changeLog = new MockEmployeeChangeLog(100, Duration.ofMinutes(1));
+        service = service(EMPLOYEES, changeLog);
+    }
+
+    @AfterEach
+    void teardown() {
+        changeLog.stop();
+    }
+
+    @Test
+    void testEmptyQuery_returnsEveryEmployee() {
+        assertSame(service.snapshot().getEmployees(), service.query(new MockEmployeeQuery()));
+    }
+
+    @Test
+    void testNameContains_caseInsensitiveSubstring() {
+        MockEmployeeQuery query = new MockEmployeeQuery();
+        query.setNameContains("TI");
+
+        assertEquals(List.of("Tiger Nixon", "Tina Unknown"), names(service.query(query)));
+    }
+
+    @Test
+    void testSalaryRange_inclusiveAndSkipsMissingSalaries() {
+        MockEmployeeQuery query = new MockEmployeeQuery();
+        query.setMinSalary(162700);
+        query.setMaxSalary(320800);
+        assertEquals(List.of("Tiger Nixon", "Garrett Winters", "Airi Satou"), names(service.query(query)));
+
+        query.setMaxSalary(null);
+        assertEquals(
+                List.of("Tiger Nixon", "Garrett Winters", "Cedric Kelly", "Airi Satou", "Brielle Williamson"),
+                names(service.query(query)));
+
+        query.setMinSalary(null);
+        query.setMaxSalary(100000);
+        assertEquals(List.of("Ashton Cox"), names(service.query(query)));
+    }
+
+    @Test
+    void testAgeRangeAndName_allMustMatch() {
+        MockEmployeeQuery query = new MockEmployeeQuery();
+        query.setMinAge(60);
+        query.setMaxAge(63);
+        assertEquals(List.of("Tiger Nixon", "Garrett Winters", "Brielle Williamson"), names(service.query(query)));
+
+        query.setNameContains("w");
+        assertEquals(List.of("Garrett Winters", "Brielle Williamson"), names(service.query(query)));
+    }
+
+    @Test
+    void testSort_eachFieldAndDirection_missingValuesLast() {
+        MockEmployeeQuery query = new MockEmployeeQuery();
+        query.setSort(MockEmployeeQuery.SortField.SALARY);
+        query.setDirection(MockEmployeeQuery.Direction.DESC);
+        assertEquals(
+                List.of(
+                        "Cedric Kelly",
+                        "Brielle Williamson",
+                        "Tiger Nixon",
+                        "Garrett Winters",
+                        "Airi Satou",
+                        "Ashton Cox",
+                        "Tina Unknown"),
+                names(service.query(query)));
+
+        query.setSort(MockEmployeeQuery.SortField.AGE);
+        query.setDirection(MockEmployeeQuery.Direction.ASC);
+        assertEquals("Cedric Kelly", names(service.query(query)).get(0));
+        assertEquals("Tina Unknown", names(service.query(query)).get(6));
+
+        query.setSort(MockEmployeeQuery.SortField.NAME);
+        assertEquals(
+                List.of(
+                        "Airi Satou",
+                        "Ashton Cox",
+                        "Brielle Williamson",
+                        "Cedric Kelly",
+                        "Garrett Winters",
+                        "Tiger Nixon",
+                        "Tina Unknown"),
+                names(service.query(query)));
+    }
+
+    @Test
+    void testLimit_appliedAfterFilterAndSort() {
+        MockEmployeeQuery query = new MockEmployeeQuery();
+        query.setMinAge(30);
+        query.setSort(MockEmployeeQuery.SortField.SALARY);
+        query.setDirection(MockEmployeeQuery.Direction.DESC);
+        query.setLimit(2);
+        assertEquals(List.of("Brielle Williamson", "Tiger Nixon"), names(service.query(query)));
+
+        MockEmployeeQuery unsorted = new MockEmployeeQuery();
+        unsorted.setLimit(3);
+        assertEquals(List.of("Tiger Nixon", "Garrett Winters", "Ashton Cox"), names(service.query(unsorted)));
+    }
+
+    @Test
+    void testCreateAndDelete_publishNewVersionsAndLeaveOldSnapshotsUntouched() throws Exception {
+        MockEmployeeSnapshot initial = service.snapshot();
+        byte[] initialJson = initial.json();
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName("Jena Gaines");
+        input.setSalary(90560);
+        input.setAge(30);
+        input.setTitle("Office Manager");
+
+        MockEmployee created = service.create(input);
+        MockEmployeeSnapshot afterCreate = service.snapshot();
+
+        assertEquals(initial.getVersion() + 1, afterCreate.getVersion());
+        assertEquals(EMPLOYEES.size() + 1, afterCreate.getEmployees().size());
+        assertTrue(afterCreate.getEmployees().contains(created));
+        assertEquals(EMPLOYEES, initial.getEmployees());
+        assertSame(initialJson, initial.json());
+        assertTrue(new String(afterCreate.json(), StandardCharsets.UTF_8).contains("Jena Gaines"));
+
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName("jena gaines");
+        assertTrue(service.delete(delete));
+        MockEmployeeSnapshot afterDelete = service.snapshot();
+
+        assertEquals(afterCreate.getVersion() + 1, afterDelete.getVersion());
+        assertEquals(EMPLOYEES, afterDelete.getEmployees());
+        assertFalse(new String(afterDelete.json(), StandardCharsets.UTF_8).contains("Jena Gaines"));
+        assertTrue(afterCreate.getEmployees().contains(created));
+    }
+
+    @Test
+    void testDeleteUnknown_keepsSnapshot() {
+        MockEmployeeSnapshot initial = service.snapshot();
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName("Nobody");
+
+        assertFalse(service.delete(delete));
+        assertSame(initial, service.snapshot());
+    }
+
+    static MockEmployeeService service(List<MockEmployee> employees, MockEmployeeChangeLog changeLog) {
+        return new MockEmployeeService(
+                new Faker(),
+                employees,
+                new MockEmployeeStatistics(employees, 10, 50000, 10),
+                changeLog,
+                new ObjectMapper(),
+                new MappingJackson2SmileHttpMessageConverter(),
+                new MockIdempotencyStore(Duration.ofMinutes(1), 100));
+    }
+
+    static MockEmployee employee(String name, Integer salary, Integer age) {
+        return new MockEmployee(
+                UUID.randomUUID(),
+                name,
+                salary,
+                age,
+                "Engineer",
+                name.toLowerCase().replace(' ', '.') + "@company.com");
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+}
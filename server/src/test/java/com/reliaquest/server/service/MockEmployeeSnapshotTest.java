@@ -0,0 +1,120 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSnapshotTest {
+
+    final List<MockEmployee> employees = List.of(
+            new MockEmployee(UUID.randomUUID(), "Tiger Nixon", 320800, 61, "Architect", "tnixon@company.com"),
+            new MockEmployee(UUID.randomUUID(), "Garrett Winters", null, null, null, null));
+    final AtomicInteger jsonEncodes = new AtomicInteger();
+    final AtomicInteger smileEncodes = new AtomicInteger();
+    final ObjectMapper objectMapper = new CountingMapper(new ObjectMapper(), jsonEncodes);
+    final ObjectMapper smileObjectMapper = new CountingMapper(new ObjectMapper(new SmileFactory()), smileEncodes);
+
+    @Test
+    void testEncodings_decodeToWhatJacksonWrites() throws Exception {
+        MockEmployeeSnapshot snapshot = new MockEmployeeSnapshot(1, employees, objectMapper, smileObjectMapper);
+        ObjectMapper reader = new ObjectMapper();
+        byte[] expected = reader.writeValueAsBytes(Response.handledWith(employees));
+
+        assertEquals(reader.readTree(expected), reader.readTree(snapshot.json()));
+        assertArrayEquals(snapshot.json(), gunzip(snapshot.gzip()));
+        assertEquals(reader.readTree(expected), new ObjectMapper(new SmileFactory()).readTree(snapshot.smile()));
+    }
+
+    @Test
+    void testEachEncoding_encodedOncePerVersion() throws Exception {
+        MockEmployeeSnapshot snapshot = new MockEmployeeSnapshot(1, employees, objectMapper, smileObjectMapper);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<byte[]>>> reads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reads.add(readers.submit(() -> {
+                    start.await();
+                    return List.of(snapshot.json(), snapshot.gzip(), snapshot.smile());
+                }));
+            }
+            start.countDown();
+            List<byte[]> first = reads.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<List<byte[]>> read : reads) {
+                List<byte[]> encodings = read.get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < encodings.size(); i++) {
+                    assertSame(first.get(i), encodings.get(i));
+                }
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        assertEquals(1, jsonEncodes.get());
+        assertEquals(1, smileEncodes.get());
+    }
+
+    @Test
+    void testSmile_notEncodedUntilRequested() {
+        MockEmployeeSnapshot snapshot = new MockEmployeeSnapshot(1, employees, objectMapper, smileObjectMapper);
+
+        snapshot.json();
+        snapshot.gzip();
+
+        assertEquals(1, jsonEncodes.get());
+        assertEquals(0, smileEncodes.get());
+    }
+
+    @Test
+    void testEmployees_copiedFromCallersList() {
+        List<MockEmployee> source = new ArrayList<>(employees);
+        MockEmployeeSnapshot snapshot = new MockEmployeeSnapshot(1, source, objectMapper, smileObjectMapper);
+
+        source.clear();
+
+        assertEquals(employees, snapshot.getEmployees());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getEmployees().clear());
+    }
+
+    static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Counts how often the snapshot asks for an encoding.
+     */
+    static class CountingMapper extends ObjectMapper {
+
+        final AtomicInteger encodes;
+
+        CountingMapper(ObjectMapper mapper, AtomicInteger encodes) {
+            super(mapper);
+            this.encodes = encodes;
+        }
+
+        @Override
+        public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+            encodes.incrementAndGet();
+            return super.writeValueAsBytes(value);
+        }
+    }
+}
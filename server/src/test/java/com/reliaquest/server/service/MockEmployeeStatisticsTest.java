@@ -0,0 +1,207 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeStats;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStatisticsTest {
+
+    @Test
+    void testCreatesAndDeletes_keepMinMaxAndTotal() {
+        MockEmployee low = employee(1, 1_000, 25);
+        MockEmployee mid = employee(2, 5_000, 35);
+        MockEmployee high = employee(3, 9_000, 45);
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(List.of(low, mid), 10, 1_000, 10);
+
+        statistics.added(high);
+        assertStats(statistics.snapshot(), 3, 1_000, 9_000, 15_000);
+
+        statistics.removed(high);
+        assertStats(statistics.snapshot(), 2, 1_000, 5_000, 6_000);
+        assertEquals(List.of(mid, low), statistics.snapshot().topEarners());
+
+        statistics.removed(low);
+        assertStats(statistics.snapshot(), 1, 5_000, 5_000, 5_000);
+
+        statistics.removed(mid);
+        assertStats(statistics.snapshot(), 0, null, null, 0);
+        assertEquals(List.of(), statistics.snapshot().topEarners());
+    }
+
+    @Test
+    void testRemovingUnknownEmployee_ignored() {
+        MockEmployee known = employee(1, 1_000, 25);
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(List.of(known), 10, 1_000, 10);
+        MockEmployeeStats before = statistics.snapshot();
+
+        statistics.removed(employee(2, 1_000, 25));
+        statistics.added(known);
+
+        assertEquals(before, statistics.snapshot());
+    }
+
+    @Test
+    void testDuplicateSalaries_orderedBySalaryThenId() {
+        MockEmployee b = employee(2, 5_000, 30);
+        MockEmployee a = employee(1, 5_000, 30);
+        MockEmployee c = employee(3, 5_000, 30);
+        MockEmployee top = employee(4, 7_000, 30);
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(List.of(b, c, top, a), 3, 1_000, 10);
+
+        assertEquals(List.of(top, a, b), statistics.snapshot().topEarners());
+
+        // An equal salary must not make a delete remove a different employee.
+        statistics.removed(b);
+        assertEquals(List.of(top, a, c), statistics.snapshot().topEarners());
+        assertEquals(3, statistics.snapshot().count());
+    }
+
+    @Test
+    void testTopK_refilledAfterDelete() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            employees.add(employee(i, i * 1_000, 30));
+        }
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(employees, 3, 1_000, 10);
+        assertEquals(List.of(employees.get(4), employees.get(3), employees.get(2)), topEarners(statistics));
+
+        statistics.removed(employees.get(4));
+        assertEquals(List.of(employees.get(3), employees.get(2), employees.get(1)), topEarners(statistics));
+
+        statistics.removed(employees.get(2));
+        assertEquals(List.of(employees.get(3), employees.get(1), employees.get(0)), topEarners(statistics));
+
+        MockEmployee newTop = employee(6, 10_000, 30);
+        statistics.added(newTop);
+        assertEquals(List.of(newTop, employees.get(3), employees.get(1)), topEarners(statistics));
+    }
+
+    @Test
+    void testHistograms_countPerBucketAndDropEmptyBuckets() {
+        MockEmployee first = employee(1, 1_500, 21);
+        MockEmployee second = employee(2, 1_999, 29);
+        MockEmployee third = employee(3, 3_000, 40);
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(List.of(first, second, third), 10, 1_000, 10);
+
+        assertEquals(
+                List.of(new MockEmployeeStats.Bucket(1_000, 2_000, 2), new MockEmployeeStats.Bucket(3_000, 4_000, 1)),
+                statistics.snapshot().salaryHistogram());
+        assertEquals(
+                List.of(new MockEmployeeStats.Bucket(20, 30, 2), new MockEmployeeStats.Bucket(40, 50, 1)),
+                statistics.snapshot().ageHistogram());
+
+        statistics.removed(third);
+        assertEquals(List.of(new MockEmployeeStats.Bucket(1_000, 2_000, 2)), statistics.snapshot().salaryHistogram());
+        assertEquals(List.of(new MockEmployeeStats.Bucket(20, 30, 2)), statistics.snapshot().ageHistogram());
+    }
+
+    @Test
+    void testEmployeesWithoutSalary_countedButNotRanked() {
+        MockEmployee paid = employee(1, 2_000, 30);
+        MockEmployee unpaid = employee(2, null, null);
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(List.of(unpaid, paid), 10, 1_000, 10);
+
+        assertStats(statistics.snapshot(), 2, 2_000, 2_000, 2_000);
+        assertEquals(List.of(paid, unpaid), statistics.snapshot().topEarners());
+        assertEquals(1, statistics.snapshot().salaryHistogram().size());
+    }
+
+    @Test
+    void testConcurrentWrites_snapshotsStayConsistent() throws Exception {
+        MockEmployeeStatistics statistics = new MockEmployeeStatistics(List.of(), 10, 10_000, 10);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService threads = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                int writer = w;
+                writers.add(threads.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(writer);
+                    List<MockEmployee> mine = new ArrayList<>();
+                    for (int i = 0; i < 2_000; i++) {
+                        if (!mine.isEmpty() && random.nextInt(3) == 0) {
+                            statistics.removed(mine.remove(random.nextInt(mine.size())));
+                        } else {
+                            MockEmployee employee =
+                                    employee(writer * 10_000 + i, random.nextInt(1, 500_000), random.nextInt(18, 70));
+                            mine.add(employee);
+                            statistics.added(employee);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(threads.submit(() -> {
+                    while (writing.get()) {
+                        assertConsistent(statistics.snapshot());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+            assertConsistent(statistics.snapshot());
+        } finally {
+            writing.set(false);
+            threads.shutdownNow();
+        }
+    }
+
+    private static void assertConsistent(MockEmployeeStats stats) {
+        List<MockEmployee> top = stats.topEarners();
+        assertEquals(Math.min(10, stats.count()), top.size());
+        assertEquals(
+                top.stream()
+                        .sorted(Comparator.comparing(MockEmployee::getSalary)
+                                .reversed()
+                                .thenComparing(MockEmployee::getId))
+                        .toList(),
+                top);
+        assertEquals(stats.count(), stats.salaryHistogram().stream().mapToInt(MockEmployeeStats.Bucket::count).sum());
+        assertEquals(stats.count(), stats.ageHistogram().stream().mapToInt(MockEmployeeStats.Bucket::count).sum());
+        if (stats.count() > 0) {
+            assertEquals(top.get(0).getSalary(), stats.maxSalary());
+            assertTrue(stats.minSalary() <= stats.maxSalary());
+            assertTrue(stats.totalSalary() >= (long) stats.minSalary() * stats.count());
+            assertTrue(stats.totalSalary() <= (long) stats.maxSalary() * stats.count());
+        } else {
+            assertNull(stats.maxSalary());
+            assertEquals(0, stats.totalSalary());
+        }
+    }
+
+    private static List<MockEmployee> topEarners(MockEmployeeStatistics statistics) {
+        return statistics.snapshot().topEarners();
+    }
+
+    private static void assertStats(MockEmployeeStats stats, int count, Integer min, Integer max, long total) {
+        assertEquals(count, stats.count());
+        assertEquals(min, stats.minSalary());
+        assertEquals(max, stats.maxSalary());
+        assertEquals(total, stats.totalSalary());
+    }
+
+    static MockEmployee employee(int id, Integer salary, Integer age) {
+        return new MockEmployee(
+                new UUID(0, id), "Employee " + id, salary, age, "Engineer", "employee" + id + "@company.com");
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MockIdempotencyStoreTest {
+
+    final ExecutorService callers = Executors.newFixedThreadPool(8);
+    final AtomicInteger writes = new AtomicInteger();
+
+    @AfterEach
+    void teardown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentRepeats_writeOnceAndShareResult() throws Exception {
+        MockIdempotencyStore store = new MockIdempotencyStore(Duration.ofHours(1), 100);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return store.execute("key", "request", () -> {
+                    sleep(50);
+                    return "result " + writes.incrementAndGet();
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("result 1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, writes.get());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testFailedWrite_releasesKey() {
+        MockIdempotencyStore store = new MockIdempotencyStore(Duration.ofHours(1), 100);
+
+        assertThrows(IllegalStateException.class, () -> store.execute("key", "request", () -> {
+            writes.incrementAndGet();
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals(0, store.size());
+
+        assertEquals("result", store.execute("key", "request", this::write));
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void testKeyReusedForDifferentRequest_refused() {
+        MockIdempotencyStore store = new MockIdempotencyStore(Duration.ofHours(1), 100);
+        store.execute("key", "request", this::write);
+
+        assertThrows(
+                MockIdempotencyStore.KeyReusedException.class, () -> store.execute("key", "other", this::write));
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void testExpiredKey_writesAgain() {
+        MockIdempotencyStore store = new MockIdempotencyStore(Duration.ofMillis(20), 100);
+        store.execute("key", "request", this::write);
+        store.execute("key", "request", this::write);
+        assertEquals(1, writes.get());
+
+        sleep(50);
+
+        store.execute("key", "request", this::write);
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void testMaxKeys_evictsOldestCompleted() {
+        MockIdempotencyStore store = new MockIdempotencyStore(Duration.ofHours(1), 2);
+        for (String key : List.of("a", "b", "c")) {
+            store.execute(key, "request", this::write);
+        }
+        assertEquals(2, store.size());
+
+        store.execute("c", "request", this::write);
+        assertEquals(3, writes.get());
+        store.execute("a", "request", this::write);
+        assertEquals(4, writes.get());
+    }
+
+    @Test
+    void testMaxKeys_neverEvictsRunningWrite() throws Exception {
+        MockIdempotencyStore store = new MockIdempotencyStore(Duration.ofHours(1), 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = callers.submit(() -> store.execute("slow", "request", () -> {
+            running.countDown();
+            await(release);
+            return "slow " + writes.incrementAndGet();
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        for (String key : List.of("a", "b", "c")) {
+            store.execute(key, "request", this::write);
+        }
+        Future<String> repeat = callers.submit(() -> store.execute("slow", "request", () -> "repeat"));
+        release.countDown();
+
+        assertEquals("slow 4", first.get(5, TimeUnit.SECONDS));
+        assertEquals("slow 4", repeat.get(5, TimeUnit.SECONDS));
+        assertEquals(1, store.size());
+    }
+
+    String write() {
+        writes.incrementAndGet();
+        return "result";
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
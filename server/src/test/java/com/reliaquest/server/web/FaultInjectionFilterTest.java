@@ -0,0 +1,126 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultProperties;
+import com.reliaquest.server.config.WebConfiguration;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultRule;
+import com.reliaquest.server.service.FaultProfileService;
+import jakarta.servlet.FilterChain;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    static final byte[] BODY =
+            "{\"data\":[],\"status\":\"Successfully processed request.\"}".getBytes(StandardCharsets.UTF_8);
+
+    final AtomicInteger handled = new AtomicInteger();
+    final FilterChain chain = (request, response) -> {
+        handled.incrementAndGet();
+        response.getOutputStream().write(BODY);
+    };
+
+    @Test
+    void testAdminPaths_neverFaulted() throws Exception {
+        FaultProfileService service = service(rule(1.0, 0, null, 0, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest request = request("PUT", WebConfiguration.ADMIN_PATH_PREFIX + "/faults/active");
+
+        filter(service).doFilter(request, response, chain);
+
+        assertEquals(1, handled.get());
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void testErrorFault_respondsWithoutHandling() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(service(rule(1.0, 0, null, 0, 0))).doFilter(request("GET", "/api/v1/employee"), response, chain);
+
+        assertEquals(0, handled.get());
+        assertEquals(503, response.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals(
+                "{\"status\":\"Failed to process request.\",\"error\":\"Injected fault.\"}",
+                response.getContentAsString());
+    }
+
+    @Test
+    void testReset_promisesBodyThenFails() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FaultInjectionFilter filter = filter(service(rule(0, 1.0, null, 0, 0)));
+
+        assertThrows(IOException.class, () -> filter.doFilter(request("GET", "/api/v1/employee"), response, chain));
+
+        assertEquals(0, handled.get());
+        assertEquals(1024, response.getContentLength());
+        assertTrue(response.isCommitted());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testLatency_delaysHandling() throws Exception {
+        FaultRule.Latency latency = new FaultRule.Latency(FaultRule.Distribution.FIXED, 100, 0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        long start = System.nanoTime();
+        filter(service(rule(0, 0, latency, 0, 0))).doFilter(request("GET", "/api/v1/employee"), response, chain);
+
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+        assertEquals(1, handled.get());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void testDrip_writesWholeBodySlowly() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        long start = System.nanoTime();
+        filter(service(rule(0, 0, null, 16, 10))).doFilter(request("GET", "/api/v1/employee"), response, chain);
+
+        long chunks = (BODY.length + 15) / 16;
+        assertTrue(System.nanoTime() - start >= chunks * 10_000_000L);
+        assertEquals(1, handled.get());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void testUnmatchedRoute_passesThrough() throws Exception {
+        FaultRule deleteOnly = new FaultRule("DELETE", "/api/v1/employee/*", null, 1.0, 500, 0, 0, 0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(service(deleteOnly)).doFilter(request("GET", "/api/v1/employee/42"), response, chain);
+
+        assertEquals(1, handled.get());
+        assertEquals(200, response.getStatus());
+    }
+
+    static FaultInjectionFilter filter(FaultProfileService service) {
+        return new FaultInjectionFilter(service, new ObjectMapper(), WebConfiguration.ADMIN_PATH_PREFIX);
+    }
+
+    static FaultProfileService service(FaultRule rule) {
+        FaultProfile profile = new FaultProfile("test", 1, List.of(rule));
+        return new FaultProfileService(new FaultProperties(profile.name(), List.of(profile)));
+    }
+
+    static FaultRule rule(
+            double errorRate, double resetRate, FaultRule.Latency latency, int dripChunkBytes, long dripDelayMillis) {
+        return new FaultRule(null, null, latency, errorRate, 0, resetRate, dripChunkBytes, dripDelayMillis);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    @Test
+    void testLimitBeyondPackedCount_rejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RandomRequestLimitInterceptor(1 << 20, Duration.ofSeconds(30), "X-Client-Id", 16));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RandomRequestLimitInterceptor(Integer.MAX_VALUE, Duration.ofSeconds(30), "X-Client-Id", 16));
+    }
+
+    @Test
+    void testLargestLimit_countsRequests() {
+        RandomRequestLimitInterceptor interceptor = new RandomRequestLimitInterceptor(
+                RandomRequestLimitInterceptor.MAX_REQUEST_LIMIT, Duration.ofSeconds(30), "X-Client-Id", 16);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(
+                Integer.toString(RandomRequestLimitInterceptor.MAX_REQUEST_LIMIT - 1),
+                response.getHeader(RandomRequestLimitInterceptor.REMAINING_HEADER));
+    }
+
+    @Test
+    void testLimitReached_rejectedUntilBackoff() {
+        RandomRequestLimitInterceptor interceptor =
+                new RandomRequestLimitInterceptor(2, Duration.ofSeconds(30), "X-Client-Id", 16);
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), rejected, null));
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+    }
+}
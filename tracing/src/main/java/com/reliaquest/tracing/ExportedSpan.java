@@ -0,0 +1,38 @@
+package com.reliaquest.tracing;
+
+import brave.handler.MutableSpan;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A finished span as written by {@link LocalSpanExporter}; timestamps and durations are in microseconds.
+ */
+public record ExportedSpan(
+        String traceId,
+        String spanId,
+        String parentId,
+        String name,
+        String kind,
+        String service,
+        long startMicros,
+        long durationMicros,
+        Map<String, String> tags,
+        String error) {
+
+    static ExportedSpan from(MutableSpan span) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        span.forEachTag(Map::put, tags);
+        final String error = span.error() != null ? span.error().toString() : span.tag("error");
+        return new ExportedSpan(
+                span.traceId(),
+                span.id(),
+                span.parentId(),
+                span.name(),
+                span.kind() != null ? span.kind().name() : null,
+                span.localServiceName(),
+                span.startTimestamp(),
+                Math.max(0, span.finishTimestamp() - span.startTimestamp()),
+                Map.copyOf(tags),
+                error);
+    }
+}
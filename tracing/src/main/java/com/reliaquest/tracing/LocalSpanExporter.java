@@ -0,0 +1,145 @@
+package com.reliaquest.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the most recent sampled spans in memory and, when a file is configured, appends them to it as JSON lines, so
+ * traces can be inspected without a tracing backend.
+ *
+ * <p>Spans are exported on the thread that finished the trace, usually a request thread, so the file is written by a
+ * single background thread: spans wait for it in a queue of up to {@code maxSpans}, and are dropped from the file,
+ * though still kept in memory, when it cannot keep up.
+ */
+@Slf4j
+public class LocalSpanExporter implements AutoCloseable {
+
+    private static final long POLL_MILLIS = 200;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final int maxSpans;
+    private final Deque<ExportedSpan> recent;
+    private final ObjectWriter writer;
+    private final BlockingQueue<ExportedSpan> unwritten;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread fileWriter;
+    private volatile boolean closed;
+
+    public LocalSpanExporter(int maxSpans, Path file, ObjectMapper objectMapper) {
+        this.maxSpans = Math.max(1, maxSpans);
+        this.recent = new ArrayDeque<>(this.maxSpans);
+        this.writer = objectMapper.writerFor(ExportedSpan.class);
+        this.unwritten = new ArrayBlockingQueue<>(this.maxSpans);
+        this.fileWriter = file != null ? startFileWriter(file) : null;
+    }
+
+    public void export(List<ExportedSpan> spans) {
+        synchronized (recent) {
+            for (ExportedSpan span : spans) {
+                if (recent.size() == maxSpans) {
+                    recent.removeFirst();
+                }
+                recent.addLast(span);
+            }
+        }
+        if (fileWriter != null && !closed) {
+            for (ExportedSpan span : spans) {
+                if (!unwritten.offer(span)) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public List<ExportedSpan> recent() {
+        synchronized (recent) {
+            return List.copyOf(recent);
+        }
+    }
+
+    public List<ExportedSpan> trace(String traceId) {
+        synchronized (recent) {
+            return recent.stream().filter(span -> span.traceId().equals(traceId)).toList();
+        }
+    }
+
+    /**
+     * Stops accepting spans for the file, waits for the writer to append those already queued and closes the file.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        if (fileWriter != null) {
+            fileWriter.join(CLOSE_TIMEOUT_MILLIS);
+        }
+    }
+
+    private Thread startFileWriter(Path file) {
+        try {
+            final BufferedWriter out = Files.newBufferedWriter(
+                    file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            final Thread thread = new Thread(() -> writeSpans(out), "span-file-writer");
+            thread.setDaemon(true);
+            thread.start();
+            log.info("Exporting sampled spans to {}", file.toAbsolutePath());
+            return thread;
+        } catch (IOException e) {
+            log.warn("Cannot open span file {}, keeping spans in memory only: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSpans(BufferedWriter file) {
+        final List<ExportedSpan> batch = new ArrayList<>();
+        long warnedAtNanos = System.nanoTime() - DROP_WARNING_INTERVAL_NANOS;
+        try (file) {
+            while (!closed || !unwritten.isEmpty()) {
+                final ExportedSpan first = unwritten.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                unwritten.drainTo(batch);
+                write(file, batch);
+                batch.clear();
+                final long now = System.nanoTime();
+                if (dropped.get() > 0 && now - warnedAtNanos >= DROP_WARNING_INTERVAL_NANOS) {
+                    warnedAtNanos = now;
+                    log.warn("Dropped {} spans from the span file, the writer could not keep up", dropped.getAndSet(0));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close span file: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(BufferedWriter file, List<ExportedSpan> spans) {
+        try {
+            for (ExportedSpan span : spans) {
+                file.write(writer.writeValueAsString(span));
+                file.newLine();
+            }
+            file.flush();
+        } catch (IOException e) {
+            log.warn("Failed to write {} spans: {}", spans.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.tracing;
+
+import brave.handler.SpanHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Spans never leave the process: they are sampled by TailSamplingSpanHandler and kept in memory or a local file.
+ * Applications import this and provide the TracingProperties bean.
+ */
+@Configuration
+public class LocalTracingConfiguration {
+
+    @Bean
+    public LocalSpanExporter localSpanExporter(TracingProperties properties, ObjectMapper objectMapper) {
+        return new LocalSpanExporter(properties.maxSpans(), properties.file(), objectMapper);
+    }
+
+    @Bean
+    public SpanHandler tailSamplingSpanHandler(TracingProperties properties, LocalSpanExporter exporter) {
+        return new TailSamplingSpanHandler(properties, exporter);
+    }
+
+    @Bean
+    public SpansEndpoint spansEndpoint(LocalSpanExporter exporter) {
+        return new SpansEndpoint(exporter);
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.tracing;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * Exposes the spans held by {@link LocalSpanExporter} at {@code /actuator/spans}, optionally for a single trace id.
+ */
+@Endpoint(id = "spans")
+@RequiredArgsConstructor
+public class SpansEndpoint {
+
+    private final LocalSpanExporter exporter;
+
+    @ReadOperation
+    public List<ExportedSpan> spans() {
+        return exporter.recent();
+    }
+
+    @ReadOperation
+    public List<ExportedSpan> trace(@Selector String traceId) {
+        return exporter.trace(traceId);
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which traces to export once their local root span has finished. Spans are held per local root until then;
+ * the trace is exported if its trace id falls in the head-sampled share, if any of its spans failed, or if the root
+ * took at least {@code slowThreshold}. Head sampling hashes the trace id rather than drawing at random, so every
+ * service running this handler keeps the same share of traces.
+ *
+ * <p>Brave must record every span for this to see them, so the tracer's own sampling probability is left at 1.0.
+ */
+public class TailSamplingSpanHandler extends SpanHandler {
+
+    private static final long HEAD_SAMPLING_RESOLUTION = 10_000;
+    private static final long PENDING_TRACE_MAX_AGE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final TracingProperties properties;
+    private final LocalSpanExporter exporter;
+    private final long headThreshold;
+    private final long slowMicros;
+    private final ConcurrentHashMap<Long, PendingTrace> pending = new ConcurrentHashMap<>();
+
+    public TailSamplingSpanHandler(TracingProperties properties, LocalSpanExporter exporter) {
+        this.properties = properties;
+        this.exporter = exporter;
+        this.headThreshold = Math.round(properties.headProbability() * HEAD_SAMPLING_RESOLUTION);
+        this.slowMicros = TimeUnit.NANOSECONDS.toMicros(properties.slowThreshold().toNanos());
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.ABANDONED) {
+            return true;
+        }
+        final ExportedSpan exported = ExportedSpan.from(span);
+        if (context.isLocalRoot()) {
+            final PendingTrace trace = pending.remove(context.localRootId());
+            final List<ExportedSpan> spans = trace != null ? trace.spans() : new ArrayList<>(1);
+            spans.add(exported);
+            final boolean failed = exported.error() != null || (trace != null && trace.failed());
+            if (shouldKeep(context, exported, failed)) {
+                exporter.export(spans);
+            }
+            return true;
+        }
+
+        PendingTrace trace = pending.get(context.localRootId());
+        if (trace == null) {
+            if (pending.size() >= properties.maxPendingTraces()) {
+                purgeExpired();
+            }
+            if (pending.size() >= properties.maxPendingTraces()) {
+                if (isHeadSampled(context)) {
+                    exporter.export(List.of(exported));
+                }
+                return true;
+            }
+            trace = pending.computeIfAbsent(context.localRootId(), id -> new PendingTrace());
+        }
+        trace.add(exported);
+        return true;
+    }
+
+    int pendingTraces() {
+        return pending.size();
+    }
+
+    private boolean shouldKeep(TraceContext context, ExportedSpan root, boolean failed) {
+        return isHeadSampled(context) || (properties.keepErrors() && failed) || root.durationMicros() >= slowMicros;
+    }
+
+    private boolean isHeadSampled(TraceContext context) {
+        // Trace ids are random, so their low bits are already uniformly distributed.
+        return Long.remainderUnsigned(context.traceId(), HEAD_SAMPLING_RESOLUTION) < headThreshold;
+    }
+
+    /** Drops spans whose local root ended before they did and so will never be flushed. */
+    private void purgeExpired() {
+        final long now = System.nanoTime();
+        pending.values().removeIf(trace -> now - trace.createdAtNanos >= PENDING_TRACE_MAX_AGE_NANOS);
+    }
+
+    private static final class PendingTrace {
+
+        private final long createdAtNanos = System.nanoTime();
+        private final List<ExportedSpan> spans = new ArrayList<>();
+        private boolean failed;
+
+        synchronized void add(ExportedSpan span) {
+            spans.add(span);
+            failed |= span.error() != null;
+        }
+
+        synchronized List<ExportedSpan> spans() {
+            return new ArrayList<>(spans);
+        }
+
+        synchronized boolean failed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.tracing;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for sampling and exporting trace spans locally. Each application binds them under its own prefix, such as
+ * {@code api.tracing}, and provides them as a bean to {@link LocalTracingConfiguration}.
+ *
+ * @param headProbability share of traces kept regardless of how they went, decided from the trace id so every
+ *     service keeps the same traces
+ * @param slowThreshold traces whose local root span took at least this long are kept
+ * @param keepErrors keep every trace with a span that ended in error
+ * @param maxSpans spans held in memory for the {@code spans} actuator endpoint
+ * @param maxPendingTraces traces whose spans are held until their local root ends; beyond this, spans are only head
+ *     sampled
+ * @param file JSON lines file spans are appended to, unset to keep them in memory only
+ */
+public record TracingProperties(
+        @DefaultValue("0.1") double headProbability,
+        @DefaultValue("500ms") Duration slowThreshold,
+        @DefaultValue("true") boolean keepErrors,
+        @DefaultValue("10000") int maxSpans,
+        @DefaultValue("1000") int maxPendingTraces,
+        Path file) {}
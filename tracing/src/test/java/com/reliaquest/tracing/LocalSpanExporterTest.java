@@ -0,0 +1,51 @@
+package com.reliaquest.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalSpanExporterTest {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testExport_keepsRecentInMemory() throws Exception {
+        LocalSpanExporter exporter = new LocalSpanExporter(2, null, MAPPER);
+
+        exporter.export(List.of(span("a", "1"), span("a", "2"), span("b", "3")));
+
+        assertEquals(List.of("2", "3"), exporter.recent().stream().map(ExportedSpan::spanId).toList());
+        assertEquals(1, exporter.trace("a").size());
+        exporter.close();
+    }
+
+    @Test
+    void testClose_appendsQueuedSpansToFile() throws Exception {
+        Path file = dir.resolve("spans.jsonl");
+        LocalSpanExporter exporter = new LocalSpanExporter(1000, file, MAPPER);
+
+        IntStream.range(0, 100).forEach(i -> exporter.export(List.of(span("trace-" + i, String.valueOf(i)))));
+        exporter.close();
+        exporter.export(List.of(span("late", "late")));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(100, lines.size());
+        assertEquals("trace-0", MAPPER.readValue(lines.get(0), ExportedSpan.class).traceId());
+        assertEquals("trace-99", MAPPER.readValue(lines.get(99), ExportedSpan.class).traceId());
+    }
+
+    private static ExportedSpan span(String traceId, String spanId) {
+        return new ExportedSpan(
+                traceId, spanId, null, "GET /employees", "SERVER", "employee-api", 0, 10, Map.of(), null);
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.*;
+
+class TailSamplingSpanHandlerTest {
+
+    LocalSpanExporter exporter;
+    TailSamplingSpanHandler handler;
+    Tracing tracing;
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    @Test
+    void testFastTraceOutsideHeadSample_dropped() {
+        Tracer tracer = tracer(0.0);
+
+        trace(tracer, 1_000, null);
+
+        assertTrue(exporter.recent().isEmpty());
+        assertEquals(0, handler.pendingTraces());
+    }
+
+    @Test
+    void testSlowTrace_keptWithItsChildren() {
+        Tracer tracer = tracer(0.0);
+
+        trace(tracer, 600_000, null);
+
+        List<ExportedSpan> spans = exporter.recent();
+        assertEquals(List.of("upstream attempt", "GET /employees"), spans.stream().map(ExportedSpan::name).toList());
+        assertEquals(spans.get(1).spanId(), spans.get(0).parentId());
+        assertEquals(600_000, spans.get(1).durationMicros());
+    }
+
+    @Test
+    void testFailedChild_keepsTrace() {
+        Tracer tracer = tracer(0.0);
+
+        trace(tracer, 1_000, new IllegalStateException("upstream down"));
+
+        List<ExportedSpan> spans = exporter.recent();
+        assertEquals(2, spans.size());
+        assertTrue(spans.get(0).error().contains("upstream down"));
+    }
+
+    @Test
+    void testHeadProbabilityOne_keepsEveryTrace() {
+        Tracer tracer = tracer(1.0);
+
+        trace(tracer, 1_000, null);
+        trace(tracer, 1_000, null);
+
+        assertEquals(4, exporter.recent().size());
+        String traceId = exporter.recent().get(0).traceId();
+        assertEquals(2, exporter.trace(traceId).size());
+    }
+
+    private Tracer tracer(double headProbability) {
+        TracingProperties properties =
+                new TracingProperties(headProbability, Duration.ofMillis(500), true, 100, 10, null);
+        exporter = new LocalSpanExporter(properties.maxSpans(), null, new ObjectMapper());
+        handler = new TailSamplingSpanHandler(properties, exporter);
+        tracing = Tracing.newBuilder()
+                .localServiceName("employee-api")
+                .addSpanHandler(handler)
+                .build();
+        return tracing.tracer();
+    }
+
+    private static void trace(Tracer tracer, long rootDurationMicros, Throwable childError) {
+        long start = 1_000_000;
+        Span root = tracer.newTrace().name("GET /employees").start(start);
+        Span child = tracer.newChild(root.context()).name("upstream attempt").start(start + 10);
+        if (childError != null) {
+            child.error(childError);
+        }
+        child.finish(start + 20);
+        root.finish(start + rootDurationMicros);
+    }
+}